@@ -0,0 +1,215 @@
+package wtf.taksa.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Собирает классы с {@code @ModuleRegistry} на этапе компиляции и генерирует {@code wtf.taksa.module.GeneratedModuleRegistry}:
+ * список дескрипторов с прямыми вызовами конструкторов и уже подставленными метаданными аннотации.
+ * <p>Ошибки разметки (абстрактный класс, нет публичного конструктора без аргументов, класс не наследует {@code Module})
+ * выдаются ошибкой компиляции, а не падением при запуске.</p>
+ */
+@SupportedAnnotationTypes(ModuleRegistryProcessor.ANNOTATION)
+public class ModuleRegistryProcessor extends AbstractProcessor {
+    static final String ANNOTATION = "wtf.taksa.module.ModuleRegistry";
+    private static final String MODULE = "wtf.taksa.module.Module";
+    private static final String PACKAGE = "wtf.taksa.module";
+    private static final String REGISTRY = "GeneratedModuleRegistry";
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private Filer filer;
+    private boolean generated;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+        this.filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (generated || annotations.isEmpty()) return false;
+        TypeElement annotation = elements.getTypeElement(ANNOTATION);
+        TypeElement module = elements.getTypeElement(MODULE);
+        if (annotation == null || module == null) return false;
+
+        List<Entry> entries = new ArrayList<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            Entry entry = read((TypeElement) element, annotation, module.asType());
+            if (entry != null) entries.add(entry);
+        }
+        entries.sort(Comparator.comparing((Entry entry) -> entry.name.toLowerCase(Locale.ROOT)));
+
+        try {
+            write(entries);
+            generated = true;
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Не удалось сгенерировать " + REGISTRY + ": " + e.getMessage());
+        }
+        return false;
+    }
+
+    private Entry read(TypeElement type, TypeElement annotation, TypeMirror module) {
+        if (type.getKind() != ElementKind.CLASS) {
+            return error(type, "@ModuleRegistry можно ставить только на класс");
+        }
+        if (!types.isSubtype(type.asType(), module)) {
+            return error(type, "Класс с @ModuleRegistry должен наследовать Module");
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return error(type, "Модуль не может быть абстрактным");
+        }
+        if (!type.getModifiers().contains(Modifier.PUBLIC)
+                || (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC))
+                || type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            return error(type, "Модуль должен быть публичным классом верхнего уровня или статическим вложенным");
+        }
+        if (!hasPublicNoArgConstructor(type)) {
+            return error(type, "Модулю нужен публичный конструктор без аргументов");
+        }
+
+        AnnotationMirror mirror = null;
+        for (AnnotationMirror candidate : type.getAnnotationMirrors()) {
+            if (types.isSameType(candidate.getAnnotationType(), annotation.asType())) {
+                mirror = candidate;
+                break;
+            }
+        }
+        if (mirror == null) return null;
+
+        Entry entry = new Entry(type.getQualifiedName().toString());
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            Object raw = value.getValue().getValue();
+            switch (value.getKey().getSimpleName().toString()) {
+                case "name" -> entry.name = (String) raw;
+                case "description" -> entry.description = (String) raw;
+                case "category" -> entry.category = ((VariableElement) raw).getSimpleName().toString();
+                case "bind" -> {
+                    // без бинда по умолчанию, например, ClickGUI не открыть, поэтому молча подставлять -1 нельзя
+                    if (!(raw instanceof Integer bind)) {
+                        messager.printMessage(Diagnostic.Kind.ERROR, "bind должен быть целочисленной константой (GLFW.GLFW_KEY_*), получено: "
+                                + value.getValue(), type, mirror, value.getValue());
+                        return null;
+                    }
+                    entry.bind = bind;
+                }
+                case "register" -> entry.register = (Boolean) raw;
+                default -> {
+                }
+            }
+        }
+        return entry.register ? entry : null;
+    }
+
+    private static boolean hasPublicNoArgConstructor(TypeElement type) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Entry error(Element element, String message) {
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+        return null;
+    }
+
+    private void write(List<Entry> entries) throws IOException {
+        JavaFileObject file = filer.createSourceFile(PACKAGE + "." + REGISTRY);
+        try (Writer out = file.openWriter()) {
+            out.write("package " + PACKAGE + ";\n\n");
+            out.write("import java.util.List;\n\n");
+            out.write("/**\n * Сгенерировано wtf.taksa.processor.ModuleRegistryProcessor, не редактировать\n */\n");
+            out.write("@javax.annotation.processing.Generated(\"wtf.taksa.processor.ModuleRegistryProcessor\")\n");
+            out.write("public final class " + REGISTRY + " {\n");
+            out.write("    public static final List<ModuleDescriptor<?>> MODULES = List.of(\n");
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                out.write("            new ModuleDescriptor<>(" + entry.type + ".class, " + entry.type + "::new, "
+                        + literal(entry.name) + ", " + literal(entry.description) + ", Category." + entry.category + ", " + entry.bind + ")");
+                out.write(i + 1 < entries.size() ? ",\n" : "\n");
+            }
+            out.write("    );\n\n");
+            out.write("    private " + REGISTRY + "() {\n    }\n");
+            out.write("}\n");
+        }
+    }
+
+    /**
+     * Строковый литерал с экранированием; не-ASCII пишем через \\u, чтобы не зависеть от кодировки сборки
+     */
+    private static String literal(String value) {
+        StringBuilder result = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> result.append("\\\"");
+                case '\\' -> result.append("\\\\");
+                case '\n' -> result.append("\\n");
+                case '\r' -> result.append("\\r");
+                case '\t' -> result.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7E) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+                }
+            }
+        }
+        return result.append('"').toString();
+    }
+
+    private static final class Entry {
+        private final String type;
+        private String name;
+        private String description;
+        private String category;
+        private int bind;
+        private boolean register = true;
+
+        private Entry(String type) {
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package wtf.taksa.core.events;
+
+import meteordevelopment.orbit.IEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EventBus} против Orbit, который стоял в клиенте раньше: пост события на 1, 10 и 100 подписчиков
+ * и цикл подписки/отписки одного объекта (то, что происходит при включении и выключении модуля).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+    @Param({"1", "10", "100"})
+    public int listeners;
+
+    private EventBus taksa;
+    private EventChannel channel;
+    private IEventBus orbit;
+    private final BenchEvent event = new BenchEvent();
+    private final Handler spare = new Handler();
+
+    @Setup
+    public void setup() {
+        taksa = new EventBus();
+        channel = taksa.channel(BenchEvent.class);
+        orbit = new meteordevelopment.orbit.EventBus();
+        // как было в Core до замены Orbit
+        orbit.registerLambdaFactory("wtf.taksa",
+                (lookupInMethod, klass) -> (MethodHandles.Lookup) lookupInMethod.invoke(null, klass, MethodHandles.lookup()));
+        for (int i = 0; i < listeners; i++) {
+            Handler handler = new Handler();
+            taksa.subscribe(handler);
+            orbit.subscribe(handler);
+        }
+    }
+
+    @Benchmark
+    public BenchEvent taksaPost() {
+        return taksa.post(event);
+    }
+
+    @Benchmark
+    public BenchEvent taksaChannelPost() {
+        return channel.post(event);
+    }
+
+    @Benchmark
+    public BenchEvent orbitPost() {
+        return orbit.post(event);
+    }
+
+    @Benchmark
+    public void taksaSubscribeCycle() {
+        taksa.subscribe(spare);
+        taksa.unsubscribe(spare);
+    }
+
+    @Benchmark
+    public void orbitSubscribeCycle() {
+        orbit.subscribe(spare);
+        orbit.unsubscribe(spare);
+    }
+
+    public static class BenchEvent {
+        int value = 1;
+    }
+
+    public static class Handler {
+        private int count;
+
+        @EventHandler
+        @meteordevelopment.orbit.EventHandler
+        public void onEvent(BenchEvent event) {
+            count += event.value;
+        }
+    }
+}
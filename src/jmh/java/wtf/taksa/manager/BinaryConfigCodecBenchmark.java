@@ -0,0 +1,103 @@
+package wtf.taksa.manager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бинарный {@code .cfg} против JSON того же профиля: чтение с диска (у {@code .cfg} через отображение в память),
+ * кодирование и полное переключение профиля (чтение + применение к настройкам).
+ * 60 модулей — порядок реального клиента, 500 — синтетический конфиг из {@link ConfigCodecBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class BinaryConfigCodecBenchmark {
+    private static final int SETTINGS = 20;
+
+    @Param({"60", "500"})
+    public int modules;
+
+    private SyntheticConfig config;
+    private ConfigData data;
+    private Path dir;
+    private Path binaryFile;
+    private Path jsonFile;
+
+    @Setup
+    public void setup() throws IOException {
+        config = new SyntheticConfig(modules, SETTINGS);
+        data = config.snapshot();
+        dir = Files.createTempDirectory("taksa-cfg-bench");
+        binaryFile = dir.resolve("bench" + ConfigManager.BINARY_EXTENSION);
+        jsonFile = dir.resolve("bench" + ConfigManager.JSON_EXTENSION);
+        Files.write(binaryFile, BinaryConfigCodec.encode(data));
+        Files.write(jsonFile, ConfigCodec.encode(data));
+        System.out.printf("%n%d модулей: .cfg %d Б, .json %d Б%n", modules, Files.size(binaryFile), Files.size(jsonFile));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(binaryFile);
+        Files.deleteIfExists(jsonFile);
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public ConfigData readBinary() throws IOException {
+        return BinaryConfigCodec.read(binaryFile);
+    }
+
+    @Benchmark
+    public ConfigData readJson() throws IOException {
+        try (Reader reader = Files.newBufferedReader(jsonFile, StandardCharsets.UTF_8)) {
+            return ConfigCodec.read(reader);
+        }
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return BinaryConfigCodec.encode(data);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return ConfigCodec.encode(data);
+    }
+
+    /**
+     * То, что ждёт игрок при {@code .cfg load}: чтение профиля и применение его к настройкам
+     */
+    @Benchmark
+    public SyntheticConfig switchBinary() throws IOException {
+        config.apply(BinaryConfigCodec.read(binaryFile));
+        return config;
+    }
+
+    @Benchmark
+    public SyntheticConfig switchJson() throws IOException {
+        try (Reader reader = Files.newBufferedReader(jsonFile, StandardCharsets.UTF_8)) {
+            config.apply(ConfigCodec.read(reader));
+        }
+        return config;
+    }
+}
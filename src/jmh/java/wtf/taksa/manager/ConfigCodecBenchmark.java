@@ -0,0 +1,163 @@
+package wtf.taksa.manager;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import wtf.taksa.module.setting.BooleanSetting;
+import wtf.taksa.module.setting.DoubleSetting;
+import wtf.taksa.module.setting.ListSetting;
+import wtf.taksa.module.setting.ModeSetting;
+import wtf.taksa.module.setting.Setting;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Потоковый {@link ConfigCodec} против прежнего пути через дерево {@code JsonObject} на конфиге 500 модулей × 20 настроек.
+ * <p>{@code legacy*} повторяют старый {@code ConfigManager}: дерево, {@code Gson.toJson} и при загрузке
+ * поиск каждой сохранённой настройки перебором списка настроек модуля. Оба пути дают байт-в-байт один файл,
+ * это проверяется в {@link #setup()}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class ConfigCodecBenchmark {
+    private static final int MODULES = 500;
+    private static final int SETTINGS = 20;
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private SyntheticConfig config;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        config = new SyntheticConfig(MODULES, SETTINGS);
+        json = ConfigCodec.encode(config.snapshot());
+        if (!Arrays.equals(json, legacySave())) {
+            throw new IllegalStateException("Потоковый и старый путь дают разный JSON");
+        }
+    }
+
+    /**
+     * Часть сохранения на главном потоке
+     */
+    @Benchmark
+    public ConfigData snapshot() {
+        return config.snapshot();
+    }
+
+    @Benchmark
+    public JsonObject legacySnapshot() {
+        return legacyTree();
+    }
+
+    @Benchmark
+    public byte[] save() throws IOException {
+        return ConfigCodec.encode(config.snapshot());
+    }
+
+    @Benchmark
+    public byte[] legacySave() {
+        return GSON.toJson(legacyTree()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public SyntheticConfig load() throws IOException {
+        config.apply(ConfigCodec.read(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8)));
+        return config;
+    }
+
+    @Benchmark
+    public SyntheticConfig legacyLoad() {
+        JsonObject root = JsonParser.parseReader(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8)).getAsJsonObject();
+        int index = 0;
+        for (JsonElement moduleElement : root.getAsJsonArray("modules")) {
+            List<Setting<?>> settings = config.modules.get(index++);
+            for (JsonElement settingElement : moduleElement.getAsJsonObject().getAsJsonArray("settings")) {
+                JsonObject settingObj = settingElement.getAsJsonObject();
+                String name = settingObj.get("name").getAsString();
+                String type = settingObj.get("type").getAsString();
+                for (Setting<?> setting : settings) {
+                    if (!setting.getName().equals(name)) continue;
+                    switch (type) {
+                        case "boolean" -> ((BooleanSetting) setting).setValue(settingObj.get("value").getAsBoolean());
+                        case "double" -> ((DoubleSetting) setting).setValue(settingObj.get("value").getAsDouble());
+                        case "mode" -> ((ModeSetting) setting).setValue(settingObj.get("value").getAsString());
+                        case "list" -> {
+                            for (Map.Entry<String, JsonElement> entry : settingObj.getAsJsonObject("value").entrySet()) {
+                                ((ListSetting) setting).setValue(entry.getKey(), entry.getValue().getAsBoolean());
+                            }
+                        }
+                        default -> {
+                        }
+                    }
+                    break;
+                }
+            }
+        }
+        return config;
+    }
+
+    private JsonObject legacyTree() {
+        JsonObject root = new JsonObject();
+        root.addProperty("disclaimerAccepted", true);
+        JsonArray modulesArray = new JsonArray();
+        for (int m = 0; m < config.modules.size(); m++) {
+            JsonObject moduleObj = new JsonObject();
+            moduleObj.addProperty("name", SyntheticConfig.moduleName(m));
+            moduleObj.addProperty("enabled", false);
+            moduleObj.addProperty("bind", -1);
+            moduleObj.addProperty("bindMods", 0);
+            moduleObj.addProperty("binding", "TOGGLE");
+            JsonArray settingsArray = new JsonArray();
+            for (Setting<?> setting : config.modules.get(m)) {
+                JsonObject settingObj = new JsonObject();
+                settingObj.addProperty("name", setting.getName());
+                if (setting instanceof BooleanSetting booleanSetting) {
+                    settingObj.addProperty("type", "boolean");
+                    settingObj.addProperty("value", booleanSetting.getValue());
+                } else if (setting instanceof DoubleSetting doubleSetting) {
+                    settingObj.addProperty("type", "double");
+                    settingObj.addProperty("value", doubleSetting.getValue());
+                } else if (setting instanceof ListSetting listSetting) {
+                    settingObj.addProperty("type", "list");
+                    JsonObject listValues = new JsonObject();
+                    for (Map.Entry<String, Boolean> entry : listSetting.getValue().entrySet()) {
+                        listValues.addProperty(entry.getKey(), entry.getValue());
+                    }
+                    settingObj.add("value", listValues);
+                } else if (setting instanceof ModeSetting modeSetting) {
+                    settingObj.addProperty("type", "mode");
+                    settingObj.addProperty("value", modeSetting.getValue());
+                }
+                settingsArray.add(settingObj);
+            }
+            moduleObj.add("settings", settingsArray);
+            modulesArray.add(moduleObj);
+        }
+        root.add("modules", modulesArray);
+        return root;
+    }
+}
@@ -0,0 +1,79 @@
+package wtf.taksa.manager;
+
+import wtf.taksa.module.setting.BooleanSetting;
+import wtf.taksa.module.setting.DoubleSetting;
+import wtf.taksa.module.setting.ListSetting;
+import wtf.taksa.module.setting.ModeSetting;
+import wtf.taksa.module.setting.Setting;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Синтетический конфиг для бенчмарков: модули без Minecraft, только списки настроек,
+ * по кругу boolean, double, mode и list
+ */
+final class SyntheticConfig {
+    final List<List<Setting<?>>> modules = new ArrayList<>();
+
+    SyntheticConfig(int moduleCount, int settingCount) {
+        for (int m = 0; m < moduleCount; m++) {
+            List<Setting<?>> settings = new ArrayList<>(settingCount);
+            for (int i = 0; i < settingCount; i++) {
+                String name = "Setting " + i;
+                switch (i % 4) {
+                    case 0 -> settings.add(new BooleanSetting(name, i % 3 == 0));
+                    case 1 -> settings.add(new DoubleSetting(name, i * 1.5, 0, 100));
+                    case 2 -> settings.add(new ModeSetting(name, "A", "A", "B", "C"));
+                    default -> settings.add(new ListSetting(name, "One", "Two", "Three", "Four"));
+                }
+            }
+            modules.add(settings);
+        }
+    }
+
+    static String moduleName(int index) {
+        return "Module" + index;
+    }
+
+    /**
+     * То же, что {@code ConfigManager.snapshot()}: записи со снимками значений через сериализаторы
+     */
+    ConfigData snapshot() {
+        List<ConfigData.ModuleRecord> records = new ArrayList<>(modules.size());
+        for (int m = 0; m < modules.size(); m++) {
+            List<Setting<?>> settings = modules.get(m);
+            List<ConfigData.SettingRecord> settingRecords = new ArrayList<>(settings.size());
+            for (Setting<?> setting : settings) {
+                SettingSerializer<Setting<?>, Object> serializer = SettingSerializers.of(setting);
+                settingRecords.add(new ConfigData.SettingRecord(setting.getName(), serializer.type(), serializer.get(setting)));
+            }
+            records.add(new ConfigData.ModuleRecord(moduleName(m), false, -1, 0, "TOGGLE", settingRecords));
+        }
+        return new ConfigData(true, records);
+    }
+
+    /**
+     * То же, что {@code ConfigDiff}: индекс настроек по имени на модуль, запись применяется через сериализатор
+     */
+    void apply(ConfigData data) {
+        List<ConfigData.ModuleRecord> records = data.modules();
+        for (int m = 0; m < records.size(); m++) {
+            List<Setting<?>> settings = modules.get(m);
+            Map<String, Setting<?>> byName = new HashMap<>();
+            for (Setting<?> setting : settings) {
+                byName.putIfAbsent(setting.getName(), setting);
+            }
+            for (ConfigData.SettingRecord record : records.get(m).settings()) {
+                Setting<?> setting = byName.get(record.name());
+                if (setting == null) continue;
+                SettingSerializer<Setting<?>, Object> serializer = SettingSerializers.of(setting);
+                if (serializer != null && serializer.type().equals(record.type())) {
+                    serializer.set(setting, record.value());
+                }
+            }
+        }
+    }
+}
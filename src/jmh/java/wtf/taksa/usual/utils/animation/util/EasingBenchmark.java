@@ -0,0 +1,82 @@
+package wtf.taksa.usual.utils.animation.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Точные формулы кривых {@link Ease} против {@link EasingTable}, через которые эти кривые теперь считаются,
+ * на пачке из {@value #SAMPLES} прогрессов за кадр.
+ * <p>Точность печатается при запуске каждого параметра: максимальная ошибка таблицы относительно формулы
+ * на равномерной сетке из миллиона точек.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EasingBenchmark {
+    private static final int SAMPLES = 256;
+    private static final int ACCURACY_POINTS = 1_000_000;
+
+    @Param({"SINE_OUT", "CIRC_OUT", "EXPO_OUT", "BACK_OUT", "ELASTIC_OUT", "BOUNCE_OUT"})
+    public Ease ease;
+
+    private Easing easing;
+    private EasingTable table;
+    private final float[] progress = new float[SAMPLES];
+    private final float[] out = new float[SAMPLES];
+
+    @Setup
+    public void setup() {
+        table = (EasingTable) ease.getEasing();
+        easing = table.getSource();
+        Random random = new Random(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            progress[i] = random.nextFloat();
+        }
+
+        double maxError = 0;
+        for (int i = 0; i <= ACCURACY_POINTS; i++) {
+            float t = (float) i / ACCURACY_POINTS;
+            maxError = Math.max(maxError, Math.abs(table.sample(t) - easing.ease(t)));
+        }
+        System.out.printf("%n%s: max |table - lambda| = %.2e%n", ease, maxError);
+    }
+
+    @Benchmark
+    public float[] lambda() {
+        Easing easing = this.easing;
+        for (int i = 0; i < SAMPLES; i++) {
+            out[i] = (float) easing.ease(progress[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public float[] table() {
+        EasingTable table = this.table;
+        for (int i = 0; i < SAMPLES; i++) {
+            out[i] = table.sample(progress[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public float[] tableBatch() {
+        table.sample(progress, out, SAMPLES);
+        return out;
+    }
+}
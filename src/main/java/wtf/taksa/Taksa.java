@@ -31,10 +31,10 @@ public class Taksa implements ModInitializer {
         instance = this;
 
         commandManager = new CommandManager();
-        friendManager = new FriendManager();
         moduleManager.init();
 
         configManager = new ConfigManager(ModuleHolder.getInstance());
+        friendManager = new FriendManager(configManager);
     }
     public static void initConfig() {
         if (!configInitialized && configManager != null) {
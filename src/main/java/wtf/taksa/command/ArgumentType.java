@@ -0,0 +1,33 @@
+package wtf.taksa.command;
+
+/**
+ * Тип аргумента {@link CommandNode}: разбирает введённое слово в значение, которое исполнитель
+ * получает из {@link CommandContext} уже готовым
+ */
+@FunctionalInterface
+public interface ArgumentType<T> {
+
+    /**
+     * @throws IllegalArgumentException если слово не подходит; текст исключения уходит в чат
+     */
+    T parse(String token);
+
+    /**
+     * Любое слово как есть
+     */
+    static ArgumentType<String> word() {
+        return token -> token;
+    }
+
+    /**
+     * Имя файла без пути: конфиг с таким именем не выйдет за свою директорию
+     */
+    static ArgumentType<String> fileName() {
+        return token -> {
+            if (token.equals(".") || token.equals("..") || token.indexOf('/') >= 0 || token.indexOf('\\') >= 0 || token.indexOf(':') >= 0) {
+                throw new IllegalArgumentException("Недопустимое имя: " + token);
+            }
+            return token;
+        };
+    }
+}
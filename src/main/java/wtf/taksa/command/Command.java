@@ -2,6 +2,8 @@ package wtf.taksa.command;
 
 import wtf.taksa.usual.utils.chat.ChatUtil;
 
+import static wtf.taksa.usual.utils.minecraft.ContextWrapper.mc;
+
 /**
  * @author Kenny1337
  * @since 28.06.2025
@@ -11,6 +13,7 @@ public abstract class Command {
     private final String[] aliases;
     private final String description;
     private final String syntax;
+    private CommandNode tree;
 
     public Command(String name, String description, String syntax, String... aliases) {
         this.name = name;
@@ -19,21 +22,70 @@ public abstract class Command {
         this.aliases = aliases;
     }
 
-    public abstract void execute(String[] args);
-
-    public boolean matches(String name) {
-        if (this.name.equalsIgnoreCase(name)) {
-            return true;
+    /**
+     * Проходит по дереву команды словами из {@code args}, разбирая аргументы, и вызывает исполнитель узла,
+     * на котором ввод закончился. Лишнее или неполное слово выводит синтаксис, неверный аргумент - ошибку разбора
+     */
+    public void execute(String[] args) {
+        CommandNode node = getTree();
+        CommandContext context = new CommandContext();
+        for (String token : args) {
+            node = node.child(token);
+            if (node == null) {
+                sendSyntax();
+                return;
+            }
+            if (!node.isLiteral()) {
+                try {
+                    context.put(node.getName(), node.parse(token));
+                } catch (IllegalArgumentException e) {
+                    sendError(e.getMessage());
+                    return;
+                }
+            }
         }
 
-        for (String alias : aliases) {
-            if (alias.equalsIgnoreCase(name)) {
-                return true;
-            }
+        CommandNode.Executor executor = node.getExecutor();
+        if (executor == null) {
+            sendSyntax();
+            return;
         }
+        executor.execute(context);
+    }
 
+    /**
+     * Описывает аргументы команды и вешает исполнители на узлы: корень - сама команда без аргументов
+     */
+    protected abstract void buildTree(CommandNode root);
+
+    /**
+     * Асинхронная команда выполняется на пуле {@link wtf.taksa.manager.CommandManager}, а не на клиентском потоке,
+     * и её можно прервать через {@code .cancel}. Состояние игры и модулей она трогает только через {@link #onMainThread}
+     */
+    public boolean isAsync() {
         return false;
     }
+
+    protected void onMainThread(Runnable action) {
+        mc.execute(action);
+    }
+
+    /**
+     * @return {@code true}, если асинхронную команду отменили; долгой команде стоит проверять это между шагами
+     */
+    protected boolean isCancelled() {
+        return Thread.currentThread().isInterrupted();
+    }
+
+    public CommandNode getTree() {
+        if (tree == null) {
+            CommandNode root = CommandNode.literal(name);
+            buildTree(root);
+            tree = root;
+        }
+        return tree;
+    }
+
     protected void sendMessage(String message) {
         ChatUtil.clientMessage(message);
     }
@@ -0,0 +1,27 @@
+package wtf.taksa.command;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Разобранные аргументы одного вызова команды, по именам узлов-аргументов
+ */
+public final class CommandContext {
+    private final Map<String, Object> arguments = new HashMap<>(4);
+
+    void put(String name, Object value) {
+        arguments.put(name, value);
+    }
+
+    /**
+     * @throws IllegalArgumentException если аргумента нет на пройденном пути дерева
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String name) {
+        Object value = arguments.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Нет аргумента " + name);
+        }
+        return (T) value;
+    }
+}
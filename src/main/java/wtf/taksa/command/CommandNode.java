@@ -0,0 +1,107 @@
+package wtf.taksa.command;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Узел дерева аргументов команды: литералы ({@code save}, {@code load}...) и не больше одного типизированного
+ * аргумента со своим источником подсказок. Дерево строится один раз в {@link Command#buildTree}: по нему
+ * {@link Command#execute} разбирает ввод и вызывает исполнитель узла, на котором ввод закончился,
+ * а {@link wtf.taksa.manager.CommandManager} собирает подсказки чата.
+ */
+public final class CommandNode {
+    private final String name;
+    private final ArgumentType<?> type;
+    private final Supplier<? extends Collection<String>> values;
+    private final Map<String, CommandNode> literals = new LinkedHashMap<>();
+    private CommandNode argument;
+    private Executor executor;
+
+    private CommandNode(String name, ArgumentType<?> type, Supplier<? extends Collection<String>> values) {
+        this.name = name;
+        this.type = type;
+        this.values = values;
+    }
+
+    public static CommandNode literal(String name) {
+        return new CommandNode(name, null, null);
+    }
+
+    /**
+     * @param name   имя, под которым значение лежит в {@link CommandContext}
+     * @param type   разбор введённого слова
+     * @param values варианты для подсказок, читаются на каждый запрос
+     */
+    public static CommandNode argument(String name, ArgumentType<?> type, Supplier<? extends Collection<String>> values) {
+        return new CommandNode(name, type, values);
+    }
+
+    /**
+     * Что выполнить, если ввод закончился на этом узле; узел без исполнителя означает неполную команду
+     */
+    public CommandNode executes(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public CommandNode then(CommandNode child) {
+        if (child.isLiteral()) {
+            literals.put(child.name.toLowerCase(Locale.ROOT), child);
+        } else {
+            argument = child;
+        }
+        return this;
+    }
+
+    /**
+     * @return узел для введённого слова: литерал без учёта регистра, иначе аргумент, иначе {@code null}
+     */
+    public CommandNode child(String token) {
+        CommandNode literal = literals.get(token.toLowerCase(Locale.ROOT));
+        return literal != null ? literal : argument;
+    }
+
+    /**
+     * @throws IllegalArgumentException если слово не подходит под тип аргумента
+     */
+    Object parse(String token) {
+        return type.parse(token);
+    }
+
+    public Collection<CommandNode> getLiterals() {
+        return Collections.unmodifiableCollection(literals.values());
+    }
+
+    public CommandNode getArgument() {
+        return argument;
+    }
+
+    /**
+     * @return текущие варианты аргумента; у литерала пусто
+     */
+    public Collection<String> getValues() {
+        return values == null ? List.of() : values.get();
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isLiteral() {
+        return type == null;
+    }
+
+    @FunctionalInterface
+    public interface Executor {
+        void execute(CommandContext context);
+    }
+}
@@ -0,0 +1,29 @@
+package wtf.taksa.command.impl;
+
+import wtf.taksa.Taksa;
+import wtf.taksa.command.Command;
+import wtf.taksa.command.CommandNode;
+
+/**
+ * Прерывает все выполняющиеся асинхронные команды
+ */
+public class CancelCommand extends Command {
+
+    public CancelCommand() {
+        super("cancel", "Отменяет выполняющиеся команды", ".cancel", "stop");
+    }
+
+    @Override
+    protected void buildTree(CommandNode root) {
+        root.executes(context -> run());
+    }
+
+    private void run() {
+        int cancelled = Taksa.getCommandManager().cancelAll();
+        if (cancelled == 0) {
+            sendMessage("§7Нет выполняющихся команд");
+        } else {
+            sendMessage("§aОтменено команд: §f" + cancelled);
+        }
+    }
+}
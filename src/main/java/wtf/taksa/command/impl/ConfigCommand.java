@@ -1,10 +1,15 @@
 package wtf.taksa.command.impl;
 
 import wtf.taksa.Taksa;
+import wtf.taksa.command.ArgumentType;
 import wtf.taksa.command.Command;
+import wtf.taksa.command.CommandNode;
+import wtf.taksa.manager.ConfigData;
 import wtf.taksa.manager.ConfigManager;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 /**
  * @author Kenny1337
  * @since 03.07.2025
@@ -16,62 +21,71 @@ public class ConfigCommand extends Command {
     }
 
     @Override
-    public void execute(String[] args) {
+    protected void buildTree(CommandNode root) {
+        // снимок модулей снимается на клиентском потоке, сама запись и так идёт в фоне
+        root.then(CommandNode.literal("save")
+                .executes(context -> withManager(manager -> onMainThread(() -> manager.saveConfig("default"))))
+                .then(CommandNode.argument("имя", ArgumentType.fileName(), ConfigCommand::configNames)
+                        .executes(context -> withManager(manager -> {
+                            String name = context.get("имя");
+                            onMainThread(() -> manager.saveConfig(name));
+                        }))));
+        root.then(CommandNode.literal("load")
+                .executes(context -> withManager(manager -> load(manager, "default")))
+                .then(CommandNode.argument("имя", ArgumentType.fileName(), ConfigCommand::configNames)
+                        .executes(context -> withManager(manager -> load(manager, context.get("имя"))))));
+        root.then(CommandNode.literal("delete")
+                .then(CommandNode.argument("имя", ArgumentType.fileName(), ConfigCommand::configNames)
+                        .executes(context -> withManager(manager -> manager.deleteConfig(context.get("имя"))))));
+        root.then(CommandNode.literal("list").executes(context -> withManager(this::list)));
+    }
+
+    private static List<String> configNames() {
+        ConfigManager configManager = Taksa.getConfigManager();
+        return configManager == null ? List.of() : configManager.getAvailableConfigs();
+    }
+
+    /**
+     * Файлы читаются и удаляются на пуле команд, чтобы не было фриза клиента
+     */
+    @Override
+    public boolean isAsync() {
+        return true;
+    }
+
+    private void load(ConfigManager configManager, String name) {
+        ConfigData data;
+        try {
+            data = configManager.readConfig(name);
+        } catch (IOException e) {
+            if (!isCancelled()) {
+                sendError("Ошибка при загрузке конфигурации: " + e.getMessage());
+            }
+            return;
+        }
+        if (data == null || isCancelled()) return;
+        onMainThread(() -> configManager.applyConfig(name, data));
+    }
+
+    private void withManager(Consumer<ConfigManager> action) {
         ConfigManager configManager = Taksa.getConfigManager();
-        
         if (configManager == null) {
             sendError("Менеджер конфигураций не найден!");
             return;
         }
-        
-        if (args.length == 0) {
-            sendSyntax();
+        action.accept(configManager);
+    }
+
+    private void list(ConfigManager configManager) {
+        List<String> configs = configManager.getAvailableConfigs();
+        if (configs.isEmpty()) {
+            sendMessage("§7Конфигурации не найдены");
             return;
         }
-        
-        String action = args[0].toLowerCase();
-        
-        switch (action) {
-            case "save":
-                if (args.length < 2) {
-                    configManager.saveConfig("default");
-                } else {
-                    configManager.saveConfig(args[1]);
-                }
-                break;
-                
-            case "load":
-                if (args.length < 2) {
-                    configManager.loadConfig("default");
-                } else {
-                    configManager.loadConfig(args[1]);
-                }
-                break;
-                
-            case "list":
-                List<String> configs = configManager.getAvailableConfigs();
-                if (configs.isEmpty()) {
-                    sendMessage("§7Конфигурации не найдены");
-                } else {
-                    sendMessage("§7------------- [§fДоступные конфигурации§7] -------------");
-                    for (String config : configs) {
-                        sendMessage("§f- " + config);
-                    }
-                    sendMessage("§7------------------------------------");
-                }
-                break;
-                
-            case "delete":
-                if (args.length < 2) {
-                    sendError("Укажите имя конфигурации для удаления");
-                } else {
-                    configManager.deleteConfig(args[1]);
-                }
-                break;
-                
-            default:
-                sendSyntax();
-                break;
+        sendMessage("§7------------- [§fДоступные конфигурации§7] -------------");
+        for (String config : configs) {
+            sendMessage("§f- " + config);
         }
+        sendMessage("§7------------------------------------");
     }
-} 
\ No newline at end of file
+}
@@ -1,48 +1,50 @@
 package wtf.taksa.command.impl;
 
+import net.minecraft.client.network.PlayerListEntry;
 import wtf.taksa.Taksa;
+import wtf.taksa.command.ArgumentType;
 import wtf.taksa.command.Command;
+import wtf.taksa.command.CommandNode;
 import wtf.taksa.manager.FriendManager;
 import wtf.taksa.usual.utils.chat.ChatUtil;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static wtf.taksa.usual.utils.minecraft.ContextWrapper.mc;
+
 public class FriendCommand extends Command {
 
     public FriendCommand() {
-        super("friend", "Взаимодействие с друзьями", ".friend", "friends");
+        super("friend", "Взаимодействие с друзьями", ".friend <add|del|clear|list> [ник]", "friends");
     }
 
     @Override
-    public void execute(String[] args) {
-        if (args.length == 0) {
-            sendSyntax();
-            return;
-        }
-        FriendManager friendManager = Taksa.getInstance().getFriendManager();
-        String action = args[0].toLowerCase();
-
-        switch (action) {
-            case "add":
-                friendManager.add(args[1]);
-                break;
-
-            case "del":
-                friendManager.del(args[1]);
-                break;
+    protected void buildTree(CommandNode root) {
+        root.then(CommandNode.literal("add").then(CommandNode.argument("ник", ArgumentType.word(), FriendCommand::onlinePlayers)
+                .executes(context -> friends().add(context.get("ник")))));
+        root.then(CommandNode.literal("del").then(CommandNode.argument("ник", ArgumentType.word(), () -> friends().friendsList())
+                .executes(context -> friends().del(context.get("ник")))));
+        root.then(CommandNode.literal("clear").executes(context -> friends().clear()));
+        root.then(CommandNode.literal("list").executes(context -> listFriends()));
+    }
 
-            case "clear":
-                friendManager.clear();
-                break;
+    private static FriendManager friends() {
+        return Taksa.getInstance().getFriendManager();
+    }
 
-            case "list":
-                listFriends();
-                break;
+    private static List<String> onlinePlayers() {
+        List<String> names = new ArrayList<>();
+        if (mc.getNetworkHandler() != null) {
+            for (PlayerListEntry entry : mc.getNetworkHandler().getPlayerList()) {
+                names.add(entry.getProfile().getName());
+            }
         }
+        return names;
     }
 
     private void listFriends() {
-        final List<String> friends = Taksa.getInstance().getFriendManager().friendsList();
+        final List<String> friends = friends().friendsList();
 
         if (friends.isEmpty()) {
             ChatUtil.clientCommand("У тебя друзей столько сколько у меня!");
@@ -2,6 +2,7 @@ package wtf.taksa.command.impl;
 
 import wtf.taksa.Taksa;
 import wtf.taksa.command.Command;
+import wtf.taksa.command.CommandNode;
 import wtf.taksa.manager.CommandManager;
 /**
  * @author Kenny1337
@@ -14,7 +15,11 @@ public class HelpCommand extends Command {
     }
 
     @Override
-    public void execute(String[] args) {
+    protected void buildTree(CommandNode root) {
+        root.executes(context -> run());
+    }
+
+    private void run() {
         sendMessage("§7------------- [§fСписок команд§7] -------------");
         for (Command command : Taksa.getCommandManager().getCommands()) {
             sendMessage(String.format("§f%s%s §7- %s", CommandManager.getPrefix(), command.getName(), command.getDescription()));
@@ -1,35 +1,40 @@
 package wtf.taksa.core;
 
-import meteordevelopment.orbit.EventBus;
-import meteordevelopment.orbit.EventHandler;
-import meteordevelopment.orbit.IEventBus;
 import wtf.taksa.Taksa;
+import wtf.taksa.core.events.EventBus;
+import wtf.taksa.core.events.EventHandler;
 import wtf.taksa.core.events.input.InputEvents;
 import wtf.taksa.manager.ModuleManager;
+import wtf.taksa.module.ModuleTickScheduler;
 import wtf.taksa.ui.clickGUI.ClickGUIScreen;
 import wtf.taksa.usual.utils.minecraft.ContextWrapper;
-import java.lang.invoke.MethodHandles;
 
 /**
  * Автор: NoCap
  * Дата создания: 23.06.2025
  */
 public class Core implements ContextWrapper {
-    public static final IEventBus EVENT_BUS = new EventBus();
+    public static final EventBus EVENT_BUS = new EventBus();
     private static ClickGUIScreen clickGUIScreen;
 
     public void inCore() {
-        // капельку украл, но ето не щитаетса
-        EVENT_BUS.registerLambdaFactory("wtf.taksa",
-                (lookupInMethod, klass) -> (MethodHandles.Lookup) lookupInMethod.invoke(null, klass, MethodHandles.lookup()));
-        EVENT_BUS.subscribe(this);
+        ModuleTickScheduler.INSTANCE.install(EVENT_BUS);
+        subscribe(this);
+    }
+
+    public static void subscribe(Object listener) {
+        EVENT_BUS.subscribe(listener);
+    }
+
+    public static void unsubscribe(Object listener) {
+        EVENT_BUS.unsubscribe(listener);
     }
 
     @EventHandler
     public void onKey(InputEvents.Keyboard event) {
         ModuleManager moduleManager = Taksa.getInstance().getModuleManager();
         if (moduleManager != null) {
-            moduleManager.onKey(event.getKey(), event.getAction());
+            moduleManager.onKey(event.getKey(), event.getAction(), event.getModifiers());
         }
     }
 
@@ -37,7 +42,7 @@ public class Core implements ContextWrapper {
     public void onMouse(InputEvents.Mouse event) {
         ModuleManager moduleManager = Taksa.getInstance().getModuleManager();
         if (moduleManager != null) {
-            moduleManager.onMouseButton(event.getButton(), event.getAction());
+            moduleManager.onMouseButton(event.getButton(), event.getAction(), event.getModifiers());
         }
     }
 
@@ -0,0 +1,104 @@
+package wtf.taksa.core.events;
+
+import wtf.taksa.Taksa;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Доставка событий асинхронным обработчикам на отдельном потоке "Taksa Event Worker".
+ * <p>Пост кладёт в {@link MpscRingQueue} пару «снимок события + асинхронные обработчики канала» и сразу возвращается.
+ * Поток-воркер один, поэтому каждый обработчик получает события в том порядке, в котором их поставили в очередь.
+ * Если очередь переполнена, событие отбрасывается и учитывается в {@link #getDroppedCount()}.</p>
+ */
+final class AsyncEventDispatcher {
+    static final AsyncEventDispatcher INSTANCE = new AsyncEventDispatcher();
+
+    private static final int CAPACITY = 4096;
+    /**
+     * Пока очередь забита, предупреждение о потерях пишется не чаще раза в этот интервал
+     */
+    private static final long DROP_WARN_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
+    private final MpscRingQueue<Delivery> queue = new MpscRingQueue<>(CAPACITY);
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong lastDropWarn = new AtomicLong(System.nanoTime() - DROP_WARN_INTERVAL);
+    private long droppedAtLastWarn;
+    private volatile Thread worker;
+    private volatile boolean idle;
+
+    private AsyncEventDispatcher() {
+    }
+
+    void submit(Listener[] listeners, Object snapshot) {
+        if (!queue.offer(new Delivery(listeners, snapshot))) {
+            dropped.incrementAndGet();
+            warnDropped();
+            return;
+        }
+        Thread thread = worker;
+        if (thread == null) {
+            thread = start();
+        }
+        if (idle) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void warnDropped() {
+        long now = System.nanoTime();
+        long last = lastDropWarn.get();
+        // предупреждает только тот поток, который выиграл CAS, остальные до конца интервала молчат
+        if (now - last < DROP_WARN_INTERVAL || !lastDropWarn.compareAndSet(last, now)) {
+            return;
+        }
+        long total = dropped.get();
+        long recent = total - droppedAtLastWarn;
+        droppedAtLastWarn = total;
+        Taksa.LOGGER.warn("Очередь асинхронных событий переполнена: отброшено {} событий, всего {}", recent, total);
+    }
+
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private synchronized Thread start() {
+        if (worker == null) {
+            Thread thread = new Thread(this::drain, "Taksa Event Worker");
+            thread.setDaemon(true);
+            worker = thread;
+            thread.start();
+        }
+        return worker;
+    }
+
+    private void drain() {
+        while (true) {
+            Delivery delivery = queue.poll();
+            if (delivery == null) {
+                idle = true;
+                // перепроверка после выставления флага, чтобы не проспать элемент, положенный до unpark
+                delivery = queue.poll();
+                if (delivery == null) {
+                    LockSupport.park(this);
+                    idle = false;
+                    continue;
+                }
+                idle = false;
+            }
+            for (Listener listener : delivery.listeners) {
+                // отписанный после поста обработчик (например, выключенный модуль) событие уже не получает
+                if (listener.index < 0) continue;
+                try {
+                    listener.invoker.invoke(listener.target, delivery.event);
+                } catch (Throwable e) {
+                    Taksa.LOGGER.error("Ошибка в асинхронном обработчике {}", listener.target.getClass().getSimpleName(), e);
+                }
+            }
+        }
+    }
+
+    private record Delivery(Listener[] listeners, Object event) {
+    }
+}
@@ -15,4 +15,11 @@ public class Event {
     public void cancel() {
         cancelled = true;
     }
+
+    /**
+     * Возвращает событие в исходное состояние перед повторным использованием из {@link EventPool}
+     */
+    public void reset() {
+        cancelled = false;
+    }
 }
\ No newline at end of file
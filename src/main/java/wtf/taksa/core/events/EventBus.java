@@ -0,0 +1,173 @@
+package wtf.taksa.core.events;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Шина событий клиента.
+ * <p>Методы с {@link EventHandler} ищутся один раз на класс подписчика и компилируются в {@link EventInvoker}
+ * через {@code LambdaMetafactory}, дальше подписка не трогает рефлексию. Обработчики хранятся в {@link EventChannel}
+ * по точному классу события; подписка и отписка объекта стоят O(число его обработчиков).</p>
+ * <p>Обработчики с {@code async = true} получают снимки {@link SnapshotEvent} через {@link AsyncEventDispatcher}.</p>
+ */
+public class EventBus {
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<HandlerInfo[]> HANDLERS = new ClassValue<>() {
+        @Override
+        protected HandlerInfo[] computeValue(Class<?> type) {
+            return scan(type);
+        }
+    };
+
+    private final ClassValue<EventChannel> channels = new ClassValue<>() {
+        @Override
+        protected EventChannel computeValue(Class<?> type) {
+            return new EventChannel();
+        }
+    };
+
+    private final Map<Object, Listener[]> subscriptions = new IdentityHashMap<>();
+    private final Map<Class<?>, InvokerDecorator> decorators = new HashMap<>();
+    private long order;
+
+    /**
+     * @return канал для точного класса события; его стоит держать в static-поле у места поста
+     */
+    public EventChannel channel(Class<?> eventType) {
+        return channels.get(eventType);
+    }
+
+    /**
+     * Оборачивает обработчики события {@code eventType} у всех последующих подписок.
+     * Уже подписанные объекты не затрагиваются, поэтому ставить декоратор нужно до подписки модулей
+     */
+    public synchronized void decorate(Class<?> eventType, InvokerDecorator decorator) {
+        decorators.put(eventType, decorator);
+    }
+
+    /**
+     * Подписывает все обработчики объекта. Повторная подписка того же объекта игнорируется
+     */
+    public synchronized void subscribe(Object target) {
+        if (subscriptions.containsKey(target)) return;
+        HandlerInfo[] handlers = HANDLERS.get(target.getClass());
+        Listener[] listeners = new Listener[handlers.length];
+        for (int i = 0; i < handlers.length; i++) {
+            HandlerInfo handler = handlers[i];
+            EventInvoker invoker = handler.invoker;
+            InvokerDecorator decorator = decorators.get(handler.eventType);
+            if (decorator != null) {
+                invoker = decorator.decorate(target, invoker);
+            }
+            Listener listener = new Listener(target, invoker, channel(handler.eventType), handler.priority, order++, handler.async);
+            listener.channel.add(listener);
+            listeners[i] = listener;
+        }
+        subscriptions.put(target, listeners);
+    }
+
+    /**
+     * Подписывает пачку объектов под одной блокировкой. Каналы, которых коснулись, пересоберут снимок
+     * один раз, при первом посте после пачки, а не после каждого объекта
+     */
+    public synchronized void subscribeAll(Collection<?> targets) {
+        for (Object target : targets) {
+            subscribe(target);
+        }
+    }
+
+    public synchronized void unsubscribeAll(Collection<?> targets) {
+        for (Object target : targets) {
+            unsubscribe(target);
+        }
+    }
+
+    public synchronized void unsubscribe(Object target) {
+        Listener[] listeners = subscriptions.remove(target);
+        if (listeners == null) return;
+        for (Listener listener : listeners) {
+            listener.channel.remove(listener);
+        }
+    }
+
+    public synchronized boolean isSubscribed(Object target) {
+        return subscriptions.containsKey(target);
+    }
+
+    /**
+     * Пост по классу события. На горячих путях лучше {@link EventChannel#post(Object)} через закэшированный канал
+     */
+    public <T> T post(T event) {
+        return channels.get(event.getClass()).post(event);
+    }
+
+    private static HandlerInfo[] scan(Class<?> type) {
+        List<HandlerInfo> handlers = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                EventHandler annotation = method.getAnnotation(EventHandler.class);
+                if (annotation == null || method.getParameterCount() != 1 || Modifier.isStatic(method.getModifiers())) continue;
+                Class<?> eventType = method.getParameterTypes()[0];
+                if (annotation.async() && !SnapshotEvent.class.isAssignableFrom(eventType)) {
+                    throw new IllegalStateException("Асинхронный обработчик " + type.getName() + "#" + method.getName()
+                            + " принимает " + eventType.getSimpleName() + ", которое не реализует SnapshotEvent");
+                }
+                // переопределённый в наследнике обработчик не должен вызываться дважды
+                if (!seen.add(method.getName() + '(' + eventType.getName() + ')')) continue;
+                handlers.add(new HandlerInfo(eventType, annotation.priority(), annotation.async(), compile(method)));
+            }
+        }
+        return handlers.toArray(new HandlerInfo[0]);
+    }
+
+    private static EventInvoker compile(Method method) {
+        Class<?> owner = method.getDeclaringClass();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(method);
+            try {
+                CallSite site = LambdaMetafactory.metafactory(
+                        lookup,
+                        "invoke",
+                        MethodType.methodType(EventInvoker.class),
+                        INVOKER_TYPE,
+                        handle,
+                        MethodType.methodType(void.class, owner, method.getParameterTypes()[0])
+                );
+                return (EventInvoker) site.getTarget().invokeExact();
+            } catch (Throwable ignored) {
+                // например, скрытые или недоступные для метафабрики классы — откатываемся на MethodHandle
+                MethodHandle generic = handle.asType(INVOKER_TYPE);
+                return (target, event) -> {
+                    try {
+                        generic.invokeExact(target, event);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new RuntimeException(e);
+                    }
+                };
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Нет доступа к обработчику " + owner.getName() + "#" + method.getName(), e);
+        }
+    }
+
+    private record HandlerInfo(Class<?> eventType, int priority, boolean async, EventInvoker invoker) {
+    }
+}
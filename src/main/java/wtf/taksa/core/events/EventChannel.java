@@ -0,0 +1,102 @@
+package wtf.taksa.core.events;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Обработчики одного класса события в {@link EventBus}.
+ * <p>Подписка и отписка — O(1): добавление в конец массива и удаление перестановкой последнего элемента.
+ * Для поста держится отсортированный по приоритету снимок, он пересобирается лениво при первом посте после изменения.</p>
+ * <p>Места поста (миксины) держат канал в static-поле, поэтому на горячем пути нет поиска по классу,
+ * а {@link #hasListeners()} — одно volatile-чтение: если событие никому не нужно, его не создают.</p>
+ */
+public final class EventChannel {
+    private static final Listener[] EMPTY = new Listener[0];
+    private static final Comparator<Listener> ORDER = Comparator
+            .comparingInt((Listener listener) -> -listener.priority)
+            .thenComparingLong(listener -> listener.order);
+
+    private Listener[] listeners = new Listener[4];
+    private int size;
+
+    private volatile Snapshot snapshot = new Snapshot(EMPTY, EMPTY);
+    private volatile int listenerCount;
+
+    EventChannel() {
+    }
+
+    public boolean hasListeners() {
+        return listenerCount > 0;
+    }
+
+    public int getListenerCount() {
+        return listenerCount;
+    }
+
+    /**
+     * Вызывает синхронные обработчики в порядке приоритета, затем отдаёт снимок события асинхронным.
+     * Отмена события не прерывает рассылку
+     */
+    public <T> T post(T event) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = rebuild();
+        }
+        for (Listener listener : current.sync) {
+            listener.invoker.invoke(listener.target, event);
+        }
+        if (current.async.length > 0) {
+            AsyncEventDispatcher.INSTANCE.submit(current.async, ((SnapshotEvent) event).snapshot());
+        }
+        return event;
+    }
+
+    synchronized void add(Listener listener) {
+        if (size == listeners.length) {
+            listeners = Arrays.copyOf(listeners, size * 2);
+        }
+        listener.index = size;
+        listeners[size++] = listener;
+        listenerCount = size;
+        snapshot = null;
+    }
+
+    synchronized void remove(Listener listener) {
+        int index = listener.index;
+        if (index < 0) return;
+        Listener last = listeners[--size];
+        listeners[index] = last;
+        last.index = index;
+        listeners[size] = null;
+        listener.index = -1;
+        listenerCount = size;
+        snapshot = null;
+    }
+
+    private synchronized Snapshot rebuild() {
+        Snapshot current = snapshot;
+        if (current != null) return current;
+        Listener[] sorted = Arrays.copyOf(listeners, size);
+        Arrays.sort(sorted, ORDER);
+        int asyncCount = 0;
+        for (Listener listener : sorted) {
+            if (listener.async) asyncCount++;
+        }
+        Listener[] sync = new Listener[sorted.length - asyncCount];
+        Listener[] async = new Listener[asyncCount];
+        int s = 0, a = 0;
+        for (Listener listener : sorted) {
+            if (listener.async) {
+                async[a++] = listener;
+            } else {
+                sync[s++] = listener;
+            }
+        }
+        current = new Snapshot(sync, async);
+        snapshot = current;
+        return current;
+    }
+
+    private record Snapshot(Listener[] sync, Listener[] async) {
+    }
+}
@@ -0,0 +1,25 @@
+package wtf.taksa.core.events;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Помечает метод-обработчик события для {@link EventBus}. Метод принимает ровно один параметр — класс события,
+ * доставка идёт по точному классу параметра.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface EventHandler {
+    /**
+     * Обработчики с большим приоритетом вызываются раньше, см. {@link EventPriority}
+     */
+    int priority() default EventPriority.MEDIUM;
+
+    /**
+     * Асинхронный обработчик получает неизменяемую копию события на потоке "Taksa Event Worker" и не может его отменить.
+     * Доступно только для событий, реализующих {@link SnapshotEvent}
+     */
+    boolean async() default false;
+}
@@ -0,0 +1,9 @@
+package wtf.taksa.core.events;
+
+/**
+ * Скомпилированный вызов метода-обработчика, генерируется {@link EventBus} через {@code LambdaMetafactory}
+ */
+@FunctionalInterface
+public interface EventInvoker {
+    void invoke(Object target, Object event);
+}
@@ -0,0 +1,48 @@
+package wtf.taksa.core.events;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Пул переиспользуемых экземпляров события.
+ * <p>У каждого потока (клиентский, сетевой) свой набор экземпляров, индексированный глубиной вложенности:
+ * если обработчик события сам вызывает пост того же типа (например, шлёт пакет из {@code PacketEvent.Send}),
+ * вложенный пост получит другой экземпляр и не затрёт внешний.</p>
+ * <p>После прогрева пост события ничего не аллоцирует. Ссылки на событие нельзя хранить после выхода из обработчика.</p>
+ */
+public final class EventPool<T extends Event> {
+    private final Supplier<T> factory;
+    private final ThreadLocal<Frame> frames = ThreadLocal.withInitial(Frame::new);
+
+    public EventPool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Берёт сброшенный экземпляр для текущей глубины. Каждому {@code acquire} обязан соответствовать {@link #release()}
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        Frame frame = frames.get();
+        if (frame.depth == frame.events.length) {
+            frame.events = Arrays.copyOf(frame.events, frame.depth * 2);
+        }
+        T event = (T) frame.events[frame.depth];
+        if (event == null) {
+            event = factory.get();
+            frame.events[frame.depth] = event;
+        }
+        frame.depth++;
+        event.reset();
+        return event;
+    }
+
+    public void release() {
+        frames.get().depth--;
+    }
+
+    private static final class Frame {
+        private Event[] events = new Event[4];
+        private int depth;
+    }
+}
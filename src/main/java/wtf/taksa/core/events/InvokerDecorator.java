@@ -0,0 +1,13 @@
+package wtf.taksa.core.events;
+
+/**
+ * Оборачивает скомпилированный обработчик при подписке, см. {@link EventBus#decorate}.
+ * <p>Вызывается один раз на подписку, поэтому обёртка может заранее найти всё, что ей нужно, и не искать это на каждом посте.</p>
+ */
+@FunctionalInterface
+public interface InvokerDecorator {
+    /**
+     * @return обёртка над {@code invoker} или сам {@code invoker}, если оборачивать не нужно
+     */
+    EventInvoker decorate(Object target, EventInvoker invoker);
+}
@@ -0,0 +1,29 @@
+package wtf.taksa.core.events;
+
+/**
+ * Один подписанный обработчик: объект, скомпилированный вызов и место в массиве своего {@link EventChannel}
+ */
+final class Listener {
+    final Object target;
+    final EventInvoker invoker;
+    final EventChannel channel;
+    final int priority;
+    /**
+     * Порядок подписки, чтобы при равном приоритете обработчики вызывались как подписались
+     */
+    final long order;
+    final boolean async;
+    /**
+     * -1 после отписки; читается воркером асинхронных событий, поэтому volatile
+     */
+    volatile int index = -1;
+
+    Listener(Object target, EventInvoker invoker, EventChannel channel, int priority, long order, boolean async) {
+        this.target = target;
+        this.invoker = invoker;
+        this.channel = channel;
+        this.priority = priority;
+        this.order = order;
+        this.async = async;
+    }
+}
@@ -0,0 +1,11 @@
+package wtf.taksa.core.events;
+
+/**
+ * Событие, которое можно отдать асинхронным обработчикам ({@code @EventHandler(async = true)}).
+ * <p>Пул переиспользует экземпляры, поэтому в очередь уходит неизменяемая копия. Копия не должна ссылаться
+ * на изменяемые объекты исходного события, а её {@link Event#cancel()} бросает {@link IllegalStateException}:
+ * вето доступно только синхронным обработчикам.</p>
+ */
+public interface SnapshotEvent {
+    Event snapshot();
+}
@@ -2,6 +2,8 @@ package wtf.taksa.core.events.input;
 
 import wtf.taksa.core.Core;
 import wtf.taksa.core.events.Event;
+import wtf.taksa.core.events.EventChannel;
+import wtf.taksa.core.events.EventPool;
 
 /**
  * Автор: NoCap
@@ -13,8 +15,16 @@ public abstract class InputEvents extends Event {
     }
 
     public static class Keyboard extends InputEvents {
-        private final int key;
-        private final int action;
+        private static final EventChannel CHANNEL = Core.EVENT_BUS.channel(Keyboard.class);
+        private static final EventPool<Keyboard> POOL = new EventPool<>(Keyboard::new);
+
+        private int key;
+        private int action;
+        private int modifiers;
+
+        private Keyboard() {
+            super();
+        }
 
         public Keyboard(int key, int action) {
             super();
@@ -22,6 +32,19 @@ public abstract class InputEvents extends Event {
             this.action = action;
         }
 
+        public static void post(int key, int action, int modifiers) {
+            if (!CHANNEL.hasListeners()) return;
+            Keyboard event = POOL.acquire();
+            try {
+                event.key = key;
+                event.action = action;
+                event.modifiers = modifiers;
+                CHANNEL.post(event);
+            } finally {
+                POOL.release();
+            }
+        }
+
         public int getKey() {
             return key;
         }
@@ -29,12 +52,24 @@ public abstract class InputEvents extends Event {
         public int getAction() {
             return action;
         }
+
+        public int getModifiers() {
+            return modifiers;
+        }
     }
 
     public static class Mouse extends InputEvents {
+        private static final EventChannel CHANNEL = Core.EVENT_BUS.channel(Mouse.class);
+        private static final EventPool<Mouse> POOL = new EventPool<>(Mouse::new);
+
         private double x, y;
-        private final int button;
-        private final int action;
+        private int button;
+        private int action;
+        private int modifiers;
+
+        private Mouse() {
+            super();
+        }
 
         public Mouse(int button, int action) {
             super();
@@ -42,10 +77,23 @@ public abstract class InputEvents extends Event {
             this.action = action;
         }
 
+        public static void post(int button, int action, int modifiers, double mx, double my) {
+            if (!CHANNEL.hasListeners()) return;
+            Mouse event = POOL.acquire();
+            try {
+                event.button = button;
+                event.action = action;
+                event.modifiers = modifiers;
+                event.post(mx, my);
+            } finally {
+                POOL.release();
+            }
+        }
+
         public void post(double mx, double my) {
             this.x = mx;
             this.y = my;
-            Core.EVENT_BUS.post(this);
+            CHANNEL.post(this);
         }
 
         public double getX() {
@@ -63,5 +111,9 @@ public abstract class InputEvents extends Event {
         public int getAction() {
             return action;
         }
+
+        public int getModifiers() {
+            return modifiers;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package wtf.taksa.core.events.minecraft;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.network.NetworkSide;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.state.PlayStateFactories;
+import net.minecraft.registry.DynamicRegistryManager;
+
+import java.util.function.Function;
+
+import static wtf.taksa.usual.utils.minecraft.ContextWrapper.mc;
+
+/**
+ * Неизменяемая копия пакета для асинхронных обработчиков: на потоке пакета он кодируется в байты своим
+ * {@link PacketCodec}, а обратно в отдельный объект декодируется только при первом обращении.
+ * <p>Кодеки берутся из состояния play, привязанного к реестрам текущего подключения. Пакеты других фаз
+ * (логин, конфигурация) и бандлы так не копируются, для них {@link #capture} возвращает {@code null}.</p>
+ */
+final class PacketCopy {
+    private static volatile Codecs codecs;
+
+    private final PacketCodec<ByteBuf, Packet<?>> codec;
+    private final byte[] bytes;
+    private Packet<?> decoded;
+
+    private PacketCopy(PacketCodec<ByteBuf, Packet<?>> codec, byte[] bytes) {
+        this.codec = codec;
+        this.bytes = bytes;
+    }
+
+    /**
+     * @return копия пакета или {@code null}, если вне игры или кодек play этот пакет не знает
+     */
+    static PacketCopy capture(Packet<?> packet) {
+        ClientPlayNetworkHandler handler = mc.getNetworkHandler();
+        if (handler == null) return null;
+
+        Codecs codecs = codecs(handler.getRegistryManager());
+        PacketCodec<ByteBuf, Packet<?>> codec = packet.getPacketId().side() == NetworkSide.CLIENTBOUND
+                ? codecs.clientbound()
+                : codecs.serverbound();
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            codec.encode(buffer, packet);
+            byte[] bytes = new byte[buffer.readableBytes()];
+            buffer.readBytes(bytes);
+            return new PacketCopy(codec, bytes);
+        } catch (RuntimeException e) {
+            // пакет не из фазы play (или бандл): в таблице кодека его нет
+            return null;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Декодирует копию при первом вызове. Снимок читает только поток асинхронных обработчиков, поэтому без синхронизации
+     */
+    Packet<?> packet() {
+        if (decoded == null) {
+            decoded = codec.decode(Unpooled.wrappedBuffer(bytes));
+        }
+        return decoded;
+    }
+
+    /**
+     * Кодеки play строятся один раз на набор реестров, то есть на подключение
+     */
+    @SuppressWarnings("unchecked")
+    private static Codecs codecs(DynamicRegistryManager registries) {
+        Codecs current = codecs;
+        if (current != null && current.registries() == registries) {
+            return current;
+        }
+        Function<ByteBuf, RegistryByteBuf> binder = RegistryByteBuf.makeFactory(registries);
+        current = new Codecs(registries,
+                (PacketCodec<ByteBuf, Packet<?>>) (PacketCodec<?, ?>) PlayStateFactories.S2C.bind(binder).codec(),
+                (PacketCodec<ByteBuf, Packet<?>>) (PacketCodec<?, ?>) PlayStateFactories.C2S.bind(binder).codec());
+        codecs = current;
+        return current;
+    }
+
+    private record Codecs(DynamicRegistryManager registries,
+                          PacketCodec<ByteBuf, Packet<?>> clientbound,
+                          PacketCodec<ByteBuf, Packet<?>> serverbound) {
+    }
+}
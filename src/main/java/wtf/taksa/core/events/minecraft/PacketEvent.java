@@ -1,40 +1,204 @@
 package wtf.taksa.core.events.minecraft;
 
 import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.PacketType;
+import wtf.taksa.core.Core;
 import wtf.taksa.core.events.Event;
+import wtf.taksa.core.events.EventChannel;
+import wtf.taksa.core.events.EventPool;
+import wtf.taksa.core.events.SnapshotEvent;
 
-public class PacketEvent extends Event {
-    private final Packet<?> packet;
+public class PacketEvent extends Event implements SnapshotEvent {
+    private Packet<?> packet;
+    private boolean frozen;
+    private Class<?> packetClass;
+    private PacketType<?> packetType;
+    private long timestamp;
+    private PacketCopy packetCopy;
+
+    protected PacketEvent() {
+    }
 
     public PacketEvent(Packet<?> packet) {
         this.packet = packet;
     }
 
+    /**
+     * У снимка асинхронного обработчика это отдельный объект, декодированный из копии пакета, снятой при посте:
+     * исходный пакет к этому моменту уже обработан и мог быть изменён или освобождён.
+     *
+     * @return пакет; у снимка {@code null}, если пакет не из фазы play и скопировать его не удалось
+     */
     public <T extends Packet<?>> T getPacket() {
+        if (frozen) {
+            return packetCopy == null ? null : (T) packetCopy.packet();
+        }
         return (T) this.packet;
     }
 
+    /**
+     * @return класс пакета; доступен и у живого события, и у снимка
+     */
+    public Class<?> getPacketClass() {
+        return frozen ? packetClass : packet.getClass();
+    }
+
+    /**
+     * @return тип пакета (сторона и идентификатор); доступен и у живого события, и у снимка
+     */
+    public PacketType<?> getPacketType() {
+        return frozen ? packetType : packet.getPacketId();
+    }
+
+    /**
+     * @return {@link System#nanoTime()} момента, когда снимок был снят на потоке пакета; у живого события 0
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.packet = null;
+    }
+
+    /**
+     * @throws IllegalStateException у снимка: отменить пакет может только синхронный обработчик
+     */
+    @Override
+    public void cancel() {
+        if (frozen) {
+            throw new IllegalStateException("Асинхронный обработчик не может отменить пакет");
+        }
+        super.cancel();
+    }
+
+    /**
+     * Копия для асинхронных обработчиков. Сам пакет в неё не попадает: моды и миксины меняют поля пакетов,
+     * а буферы payload-пакетов освобождаются после обработки. Вместо него снимок хранит байты пакета,
+     * закодированные его кодеком ({@link PacketCopy}), а также класс и {@link PacketType} пакета, время снятия
+     * и состояние отмены. Кодирование стоит одну запись пакета в буфер и делается, только если у канала есть
+     * асинхронные обработчики.
+     */
+    @Override
+    public PacketEvent snapshot() {
+        PacketEvent copy = copy();
+        copy.packetClass = packet.getClass();
+        copy.packetType = packet.getPacketId();
+        copy.timestamp = System.nanoTime();
+        copy.packetCopy = PacketCopy.capture(packet);
+        if (isCancelled()) {
+            copy.cancel();
+        }
+        copy.frozen = true;
+        return copy;
+    }
+
+    protected PacketEvent copy() {
+        return new PacketEvent();
+    }
+
+    /**
+     * Постит пакет через экземпляр из пула, ссылка на пакет после поста не удерживается.
+     * Если подписчиков нет, событие не создаётся и шина не вызывается
+     *
+     * @return {@code true}, если событие отменили
+     */
+    protected static <E extends PacketEvent> boolean post(EventChannel channel, EventPool<E> pool, Packet<?> packet) {
+        if (!channel.hasListeners()) return false;
+        PacketEvent event = pool.acquire();
+        try {
+            event.packet = packet;
+            channel.post(event);
+            return event.isCancelled();
+        } finally {
+            event.packet = null;
+            pool.release();
+        }
+    }
+
     public static class Send extends PacketEvent {
+        private static final EventChannel CHANNEL = Core.EVENT_BUS.channel(Send.class);
+        private static final EventPool<Send> POOL = new EventPool<>(Send::new);
+
+        private Send() {
+        }
+
         public Send(Packet<?> packet) {
             super(packet);
         }
+
+        public static boolean post(Packet<?> packet) {
+            return post(CHANNEL, POOL, packet);
+        }
+
+        @Override
+        protected PacketEvent copy() {
+            return new Send();
+        }
     }
 
     public static class Receive extends PacketEvent {
+        private static final EventChannel CHANNEL = Core.EVENT_BUS.channel(Receive.class);
+        private static final EventPool<Receive> POOL = new EventPool<>(Receive::new);
+
+        private Receive() {
+        }
+
         public Receive(Packet<?> packet) {
             super(packet);
         }
+
+        public static boolean post(Packet<?> packet) {
+            return post(CHANNEL, POOL, packet);
+        }
+
+        @Override
+        protected PacketEvent copy() {
+            return new Receive();
+        }
     }
 
     public static class SendPost extends PacketEvent {
+        private static final EventChannel CHANNEL = Core.EVENT_BUS.channel(SendPost.class);
+        private static final EventPool<SendPost> POOL = new EventPool<>(SendPost::new);
+
+        private SendPost() {
+        }
+
         public SendPost(Packet<?> packet) {
             super(packet);
         }
+
+        public static boolean post(Packet<?> packet) {
+            return post(CHANNEL, POOL, packet);
+        }
+
+        @Override
+        protected PacketEvent copy() {
+            return new SendPost();
+        }
     }
 
     public static class ReceivePost extends PacketEvent {
+        private static final EventChannel CHANNEL = Core.EVENT_BUS.channel(ReceivePost.class);
+        private static final EventPool<ReceivePost> POOL = new EventPool<>(ReceivePost::new);
+
+        private ReceivePost() {
+        }
+
         public ReceivePost(Packet<?> packet) {
             super(packet);
         }
+
+        public static boolean post(Packet<?> packet) {
+            return post(CHANNEL, POOL, packet);
+        }
+
+        @Override
+        protected PacketEvent copy() {
+            return new ReceivePost();
+        }
     }
-}
\ No newline at end of file
+}
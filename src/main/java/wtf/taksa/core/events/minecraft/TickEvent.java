@@ -1,10 +1,25 @@
 package wtf.taksa.core.events.minecraft;
 
+import wtf.taksa.core.Core;
 import wtf.taksa.core.events.Event;
+import wtf.taksa.core.events.EventChannel;
+import wtf.taksa.core.events.EventPool;
 
 /**
  * Автор: NoCap
  * Дата создания: 23.06.2025
  */
 public class TickEvent extends Event {
-}
\ No newline at end of file
+    private static final EventChannel CHANNEL = Core.EVENT_BUS.channel(TickEvent.class);
+    private static final EventPool<TickEvent> POOL = new EventPool<>(TickEvent::new);
+
+    public static void post() {
+        if (!CHANNEL.hasListeners()) return;
+        TickEvent event = POOL.acquire();
+        try {
+            CHANNEL.post(event);
+        } finally {
+            POOL.release();
+        }
+    }
+}
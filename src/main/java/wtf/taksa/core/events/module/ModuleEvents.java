@@ -0,0 +1,55 @@
+package wtf.taksa.core.events.module;
+
+import wtf.taksa.core.Core;
+import wtf.taksa.core.events.Event;
+import wtf.taksa.core.events.EventChannel;
+import wtf.taksa.core.events.EventPool;
+import wtf.taksa.module.Module;
+import wtf.taksa.module.setting.Setting;
+
+public abstract class ModuleEvents extends Event {
+
+    private ModuleEvents() {
+    }
+
+    /**
+     * Состояние модуля, которое попадает в конфиг, изменилось: включение, бинд или значение настройки.
+     * Постится на том потоке, где произошло изменение; обработчики не должны делать там тяжёлой работы
+     */
+    public static class Changed extends ModuleEvents {
+        private static final EventChannel CHANNEL = Core.EVENT_BUS.channel(Changed.class);
+        private static final EventPool<Changed> POOL = new EventPool<>(Changed::new);
+
+        private Module module;
+        private Setting<?> setting;
+
+        private Changed() {
+            super();
+        }
+
+        /**
+         * @param setting изменённая настройка или {@code null}, если изменился сам модуль
+         */
+        public static void post(Module module, Setting<?> setting) {
+            if (!CHANNEL.hasListeners()) return;
+            Changed event = POOL.acquire();
+            try {
+                event.module = module;
+                event.setting = setting;
+                CHANNEL.post(event);
+            } finally {
+                event.module = null;
+                event.setting = null;
+                POOL.release();
+            }
+        }
+
+        public Module getModule() {
+            return module;
+        }
+
+        public Setting<?> getSetting() {
+            return setting;
+        }
+    }
+}
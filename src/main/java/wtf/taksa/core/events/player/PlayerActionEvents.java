@@ -1,7 +1,10 @@
 package wtf.taksa.core.events.player;
 
 import net.minecraft.entity.Entity;
+import wtf.taksa.core.Core;
 import wtf.taksa.core.events.Event;
+import wtf.taksa.core.events.EventChannel;
+import wtf.taksa.core.events.EventPool;
 
 /**
  * Автор: NoCap
@@ -13,8 +16,15 @@ public abstract class PlayerActionEvents extends Event {
     }
 
     public static class Attack extends PlayerActionEvents {
-        private final Entity entity;
-        private final boolean pre;
+        private static final EventChannel CHANNEL = Core.EVENT_BUS.channel(Attack.class);
+        private static final EventPool<Attack> POOL = new EventPool<>(Attack::new);
+
+        private Entity entity;
+        private boolean pre;
+
+        private Attack() {
+            super();
+        }
 
         public Attack(Entity entity, boolean pre) {
             super();
@@ -22,6 +32,23 @@ public abstract class PlayerActionEvents extends Event {
             this.pre = pre;
         }
 
+        /**
+         * @return {@code true}, если атаку отменили
+         */
+        public static boolean post(Entity entity, boolean pre) {
+            if (!CHANNEL.hasListeners()) return false;
+            Attack event = POOL.acquire();
+            try {
+                event.entity = entity;
+                event.pre = pre;
+                CHANNEL.post(event);
+                return event.isCancelled();
+            } finally {
+                event.entity = null;
+                POOL.release();
+            }
+        }
+
         public Entity getEntity() {
             return entity;
         }
@@ -32,8 +59,25 @@ public abstract class PlayerActionEvents extends Event {
     }
 
     public static class Jump extends PlayerActionEvents {
+        private static final EventChannel CHANNEL = Core.EVENT_BUS.channel(Jump.class);
+        private static final EventPool<Jump> POOL = new EventPool<>(Jump::new);
+
         public Jump() {
             super();
         }
+
+        /**
+         * @return {@code true}, если прыжок отменили
+         */
+        public static boolean post() {
+            if (!CHANNEL.hasListeners()) return false;
+            Jump event = POOL.acquire();
+            try {
+                CHANNEL.post(event);
+                return event.isCancelled();
+            } finally {
+                POOL.release();
+            }
+        }
     }
-}
\ No newline at end of file
+}
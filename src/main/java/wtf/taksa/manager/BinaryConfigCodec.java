@@ -0,0 +1,266 @@
+package wtf.taksa.manager;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Компактный бинарный формат профиля ({@code .cfg}) для быстрого переключения конфигов.
+ * <p>Файл: {@code "TKCF"}, версия схемы (varint), таблица строк, затем модули. Имена модулей, настроек, типов
+ * и опций пишутся varint-индексом в таблице строк, числа — varint/zigzag. Значение каждой настройки предварено
+ * своей длиной, так что настройку неизвестного типа читатель просто пропускает.</p>
+ * <p>Модель общая с JSON ({@link ConfigData}), поэтому профиль конвертируется в {@link ConfigCodec} и обратно без потерь.
+ * Профиль весит несколько килобайт и читается целиком одним вызовом; отображение в память здесь ничего не даёт,
+ * а на Windows держит файл открытым до сборки мусора и мешает его перезаписать или удалить.</p>
+ */
+public final class BinaryConfigCodec {
+    private static final int MAGIC = 0x544B4346;
+    /**
+     * Версия схемы. Читаются файлы не новее этой; новые поля добавляются только с повышением версии
+     */
+    public static final int VERSION = 1;
+
+    private static final int FLAG_ENABLED = 1;
+
+    private BinaryConfigCodec() {
+    }
+
+    public static byte[] encode(ConfigData data) {
+        Output body = new Output();
+        Output value = body.child();
+
+        body.writeBoolean(data.disclaimerAccepted());
+        body.writeVarInt(data.modules().size());
+        for (ConfigData.ModuleRecord module : data.modules()) {
+            body.writeString(module.name());
+            body.writeByte(module.enabled() ? FLAG_ENABLED : 0);
+            body.writeSignedVarInt(module.bind());
+            body.writeVarInt(module.bindMods());
+            body.writeString(module.binding());
+            body.writeVarInt(module.settings().size());
+            for (ConfigData.SettingRecord setting : module.settings()) {
+                value.reset();
+                SettingSerializers.byType(setting.type()).writeBinary(value, setting.value());
+                body.writeString(setting.name());
+                body.writeString(setting.type());
+                body.writeVarInt(value.size);
+                body.writeBytes(value.buffer, value.size);
+            }
+        }
+
+        Output file = new Output();
+        file.writeInt(MAGIC);
+        file.writeVarInt(VERSION);
+        file.writeVarInt(body.strings.size());
+        for (String string : body.strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            file.writeVarInt(bytes.length);
+            file.writeBytes(bytes, bytes.length);
+        }
+        file.writeBytes(body.buffer, body.size);
+        return Arrays.copyOf(file.buffer, file.size);
+    }
+
+    public static ConfigData read(Path file) throws IOException {
+        return decode(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    public static ConfigData decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.remaining() < 4 || buffer.getInt() != MAGIC) {
+                throw new IOException("не бинарный конфиг");
+            }
+            Input in = new Input(buffer);
+            int version = in.readVarInt();
+            if (version > VERSION) {
+                throw new IOException("схема " + version + " новее поддерживаемой " + VERSION);
+            }
+            in.readStringTable();
+
+            boolean disclaimerAccepted = in.readBoolean();
+            int moduleCount = in.readVarInt();
+            List<ConfigData.ModuleRecord> modules = new ArrayList<>(Math.min(moduleCount, 1024));
+            for (int i = 0; i < moduleCount; i++) {
+                String name = in.readString();
+                int flags = in.readByte();
+                int bind = in.readSignedVarInt();
+                int bindMods = in.readVarInt();
+                String binding = in.readString();
+                int settingCount = in.readVarInt();
+                List<ConfigData.SettingRecord> settings = new ArrayList<>(Math.min(settingCount, 256));
+                for (int j = 0; j < settingCount; j++) {
+                    String settingName = in.readString();
+                    String type = in.readString();
+                    int length = in.readVarInt();
+                    int end = buffer.position() + length;
+                    SettingSerializer<?, Object> serializer = SettingSerializers.byType(type);
+                    if (serializer != null) {
+                        settings.add(new ConfigData.SettingRecord(settingName, type, serializer.readBinary(in)));
+                    }
+                    // и неизвестный тип, и недочитанное значение из будущей версии просто пропускаются
+                    buffer.position(end);
+                }
+                modules.add(new ConfigData.ModuleRecord(name, (flags & FLAG_ENABLED) != 0, bind, bindMods, binding, settings));
+            }
+            return new ConfigData(disclaimerAccepted, modules);
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("повреждённый бинарный конфиг", e);
+        }
+    }
+
+    /**
+     * Запись тела с общей таблицей строк. Строка пишется один раз в таблицу, в теле — её индекс
+     */
+    public static final class Output {
+        private final Map<String, Integer> ids;
+        private final List<String> strings;
+        private byte[] buffer = new byte[256];
+        private int size;
+
+        private Output() {
+            this(new HashMap<>(), new ArrayList<>());
+        }
+
+        private Output(Map<String, Integer> ids, List<String> strings) {
+            this.ids = ids;
+            this.strings = strings;
+        }
+
+        private Output child() {
+            return new Output(ids, strings);
+        }
+
+        private void reset() {
+            size = 0;
+        }
+
+        public void writeByte(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        public void writeBoolean(boolean value) {
+            writeByte(value ? 1 : 0);
+        }
+
+        public void writeVarInt(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        /**
+         * Zigzag: маленькие отрицательные (например, {@code -1} у пустого бинда) занимают один байт
+         */
+        public void writeSignedVarInt(int value) {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        public void writeInt(int value) {
+            ensure(4);
+            buffer[size++] = (byte) (value >>> 24);
+            buffer[size++] = (byte) (value >>> 16);
+            buffer[size++] = (byte) (value >>> 8);
+            buffer[size++] = (byte) value;
+        }
+
+        public void writeDouble(double value) {
+            long bits = Double.doubleToLongBits(value);
+            writeInt((int) (bits >>> 32));
+            writeInt((int) bits);
+        }
+
+        public void writeString(String value) {
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = strings.size();
+                ids.put(value, id);
+                strings.add(value);
+            }
+            writeVarInt(id);
+        }
+
+        private void writeBytes(byte[] bytes, int length) {
+            ensure(length);
+            System.arraycopy(bytes, 0, buffer, size, length);
+            size += length;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    /**
+     * Чтение поверх буфера с содержимым файла
+     */
+    public static final class Input {
+        private final ByteBuffer buffer;
+        private String[] strings = new String[0];
+
+        private Input(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private void readStringTable() {
+            int count = readVarInt();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IllegalArgumentException("таблица строк: " + count);
+            }
+            strings = new String[count];
+            byte[] scratch = new byte[64];
+            for (int i = 0; i < count; i++) {
+                int length = readVarInt();
+                if (length > scratch.length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                buffer.get(scratch, 0, length);
+                strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+        }
+
+        public int readByte() {
+            return buffer.get() & 0xFF;
+        }
+
+        public boolean readBoolean() {
+            return buffer.get() != 0;
+        }
+
+        public int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) return value;
+            }
+            throw new IllegalArgumentException("varint длиннее 5 байт");
+        }
+
+        public int readSignedVarInt() {
+            int value = readVarInt();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        public double readDouble() {
+            return buffer.getDouble();
+        }
+
+        public String readString() {
+            return strings[readVarInt()];
+        }
+    }
+}
@@ -1,32 +1,97 @@
 package wtf.taksa.manager;
 
 
+import com.mojang.brigadier.context.StringRange;
+import com.mojang.brigadier.suggestion.Suggestion;
+import com.mojang.brigadier.suggestion.Suggestions;
 import lombok.Getter;
 import wtf.taksa.command.Command;
+import wtf.taksa.command.CommandNode;
+import wtf.taksa.command.impl.CancelCommand;
+import wtf.taksa.command.impl.ConfigCommand;
 import wtf.taksa.command.impl.FriendCommand;
 import wtf.taksa.command.impl.HelpCommand;
 import wtf.taksa.usual.utils.chat.ChatUtil;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Kenny1337
  * @since 28.06.2025
  */
-@Getter
 public class CommandManager {
     private static final String PREFIX = ".";
+    private static final int SUGGESTION_CACHE_SIZE = 64;
+    private static final int ASYNC_THREADS = 2;
+    /**
+     * Сверх этого асинхронные команды не ставятся в очередь, а отклоняются с ошибкой
+     */
+    private static final int ASYNC_QUEUE = 8;
+
+    @Getter
     private final List<Command> commands = new ArrayList<>();
+    /**
+     * Имя и алиасы в нижнем регистре → команда, собирается при регистрации
+     */
+    private final Map<String, Command> byAlias = new HashMap<>();
+    /**
+     * Все имена и алиасы в порядке регистрации, для подсказки первого слова
+     */
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * Подсказки по введённому тексту, только для ввода, который целиком разбирается литералами.
+     * Аргументы (имена конфигов, игроки) меняются со временем и считаются заново
+     */
+    private final Map<String, Suggestions> suggestionCache = new LinkedHashMap<>(SUGGESTION_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Suggestions> eldest) {
+            return size() > SUGGESTION_CACHE_SIZE;
+        }
+    };
+
+    private final ThreadPoolExecutor asyncPool = createPool();
+    private final Set<RunningCommand> running = ConcurrentHashMap.newKeySet();
 
     public CommandManager() {
         addCommand(new HelpCommand());
         addCommand(new FriendCommand());
+        addCommand(new ConfigCommand());
+        addCommand(new CancelCommand());
     }
 
     public void addCommand(Command command) {
         commands.add(command);
+        register(command.getName(), command);
+        for (String alias : command.getAliases()) {
+            register(alias, command);
+        }
+        command.getTree();
+        suggestionCache.clear();
+    }
+
+    private void register(String name, Command command) {
+        if (byAlias.putIfAbsent(name.toLowerCase(Locale.ROOT), command) == null) {
+            names.add(name);
+        }
+    }
+
+    public Command getCommand(String name) {
+        return byAlias.get(name.toLowerCase(Locale.ROOT));
     }
 
     public boolean processCommand(String message) {
@@ -34,26 +99,166 @@ public class CommandManager {
             return false;
         }
 
-        String[] split = message.substring(PREFIX.length()).split(" ");
-        String commandName = split[0].toLowerCase();
+        String[] split = message.substring(PREFIX.length()).trim().split("\\s+");
+        String commandName = split[0].toLowerCase(Locale.ROOT);
         String[] args = Arrays.copyOfRange(split, 1, split.length);
 
-        for (Command command : commands) {
-            if (command.matches(commandName)) {
-                try {
-                    command.execute(args);
-                } catch (Exception e) {
-                    ChatUtil.clientError("Ошибка при выполнении команды: " + e.getMessage());
+        Command command = byAlias.get(commandName);
+        if (command == null) {
+            ChatUtil.clientError("Команда не найдена: " + commandName);
+            return true;
+        }
+
+        if (!command.isAsync()) {
+            execute(command, args);
+            return true;
+        }
+
+        RunningCommand task = new RunningCommand(command, args);
+        running.add(task);
+        try {
+            asyncPool.execute(task);
+        } catch (RejectedExecutionException e) {
+            running.remove(task);
+            ChatUtil.clientError("Слишком много выполняющихся команд, попробуйте позже");
+        }
+        return true;
+    }
+
+    /**
+     * Прерывает все асинхронные команды, и выполняющиеся, и ждущие в очереди
+     *
+     * @return сколько команд отменено
+     */
+    public int cancelAll() {
+        int cancelled = 0;
+        for (RunningCommand task : running) {
+            if (task.cancel(true)) {
+                cancelled++;
+            }
+        }
+        asyncPool.purge();
+        return cancelled;
+    }
+
+    private static void execute(Command command, String[] args) {
+        try {
+            command.execute(args);
+        } catch (Exception e) {
+            // ChatUtil сам перекинет сообщение на клиентский поток
+            ChatUtil.clientError("Ошибка при выполнении команды: " + e.getMessage());
+        }
+    }
+
+    private static ThreadPoolExecutor createPool() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(ASYNC_THREADS, ASYNC_THREADS, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(ASYNC_QUEUE), runnable -> {
+            Thread thread = new Thread(runnable, "Taksa Command #" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Асинхронная команда в пуле; из {@link #running} убирается сама, когда завершилась или отменена
+     */
+    private final class RunningCommand extends FutureTask<Void> {
+        private RunningCommand(Command command, String[] args) {
+            super(() -> execute(command, args), null);
+        }
+
+        @Override
+        protected void done() {
+            running.remove(this);
+        }
+    }
+
+    /**
+     * Подсказки для строки чата по деревьям команд
+     *
+     * @return подсказки или {@code null}, если это не команда клиента
+     */
+    public Suggestions suggest(String text) {
+        if (!text.startsWith(PREFIX)) {
+            return null;
+        }
+        Suggestions cached = suggestionCache.get(text);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        int start = PREFIX.length();
+        int space = text.indexOf(' ', start);
+        boolean cacheable = true;
+
+        if (space < 0) {
+            String partial = text.substring(start).toLowerCase(Locale.ROOT);
+            StringRange range = StringRange.between(start, text.length());
+            for (String name : names) {
+                if (name.toLowerCase(Locale.ROOT).startsWith(partial)) {
+                    suggestions.add(new Suggestion(range, name));
+                }
+            }
+        } else {
+            Command command = byAlias.get(text.substring(start, space).toLowerCase(Locale.ROOT));
+            CommandNode node = command == null ? null : command.getTree();
+            int position = space + 1;
+            // спускаемся по введённым словам, последнее (недописанное) дополняем
+            while (node != null) {
+                int next = text.indexOf(' ', position);
+                if (next < 0) {
+                    cacheable = suggestChildren(node, text, position, suggestions);
+                    break;
+                }
+                if (next == position) {
+                    // лишний пробел: processCommand такие пустые слова тоже пропускает
+                    position++;
+                    continue;
+                }
+                CommandNode child = node.child(text.substring(position, next));
+                if (child != null && !child.isLiteral()) {
+                    cacheable = false;
                 }
-                return true;
+                node = child;
+                position = next + 1;
             }
         }
 
-        ChatUtil.clientError("Команда не найдена: " + commandName);
-        return true;
+        Suggestions result = Suggestions.create(text, suggestions);
+        if (cacheable) {
+            suggestionCache.put(text, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return {@code false}, если в подсказках есть значения аргумента и кэшировать их нельзя
+     */
+    private static boolean suggestChildren(CommandNode node, String text, int start, List<Suggestion> out) {
+        String partial = text.substring(start).toLowerCase(Locale.ROOT);
+        StringRange range = StringRange.between(start, text.length());
+        for (CommandNode literal : node.getLiterals()) {
+            if (literal.getName().toLowerCase(Locale.ROOT).startsWith(partial)) {
+                out.add(new Suggestion(range, literal.getName()));
+            }
+        }
+        CommandNode argument = node.getArgument();
+        if (argument == null) {
+            return true;
+        }
+        for (String value : argument.getValues()) {
+            if (value.toLowerCase(Locale.ROOT).startsWith(partial)) {
+                out.add(new Suggestion(range, value));
+            }
+        }
+        return false;
     }
 
     public static String getPrefix() {
         return PREFIX;
     }
-} 
\ No newline at end of file
+}
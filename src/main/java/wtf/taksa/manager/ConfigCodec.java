@@ -0,0 +1,147 @@
+package wtf.taksa.manager;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import wtf.taksa.module.ModuleBinding;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Потоковый JSON-кодек конфига на {@link JsonWriter}/{@link JsonReader}: без промежуточного дерева {@code JsonObject}.
+ * <p>Формат совпадает с прежним выводом Gson с pretty printing, старые конфиги читаются как есть.
+ * Неизвестные поля и настройки неизвестного типа пропускаются.</p>
+ */
+public final class ConfigCodec {
+
+    private ConfigCodec() {
+    }
+
+    public static byte[] encode(ConfigData data) throws IOException {
+        // OutputStreamWriter под JsonWriter кодирует каждый мелкий кусок отдельно и мусорит сильнее, чем одна строка целиком
+        StringWriter writer = new StringWriter(8192);
+        write(writer, data);
+        return writer.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void write(Writer writer, ConfigData data) throws IOException {
+        JsonWriter out = new JsonWriter(writer);
+        out.setIndent("  ");
+        out.setHtmlSafe(true);
+
+        out.beginObject();
+        out.name("disclaimerAccepted").value(data.disclaimerAccepted());
+        out.name("modules").beginArray();
+        for (ConfigData.ModuleRecord module : data.modules()) {
+            out.beginObject();
+            out.name("name").value(module.name());
+            out.name("enabled").value(module.enabled());
+            out.name("bind").value(module.bind());
+            out.name("bindMods").value(module.bindMods());
+            out.name("binding").value(module.binding());
+            if (!module.settings().isEmpty()) {
+                out.name("settings").beginArray();
+                for (ConfigData.SettingRecord setting : module.settings()) {
+                    out.beginObject();
+                    out.name("name").value(setting.name());
+                    out.name("type").value(setting.type());
+                    out.name("value");
+                    SettingSerializers.byType(setting.type()).write(out, setting.value());
+                    out.endObject();
+                }
+                out.endArray();
+            }
+            out.endObject();
+        }
+        out.endArray();
+        out.endObject();
+        out.flush();
+    }
+
+    public static ConfigData read(Reader reader) throws IOException {
+        JsonReader in = new JsonReader(reader);
+        boolean disclaimerAccepted = false;
+        List<ConfigData.ModuleRecord> modules = new ArrayList<>();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "disclaimerAccepted" -> disclaimerAccepted = in.nextBoolean();
+                case "modules" -> {
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        ConfigData.ModuleRecord module = readModule(in);
+                        if (module != null) modules.add(module);
+                    }
+                    in.endArray();
+                }
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return new ConfigData(disclaimerAccepted, modules);
+    }
+
+    private static ConfigData.ModuleRecord readModule(JsonReader in) throws IOException {
+        String name = null;
+        boolean enabled = false;
+        int bind = -1;
+        int bindMods = 0;
+        String binding = ModuleBinding.TOGGLE.name();
+        List<ConfigData.SettingRecord> settings = List.of();
+
+        in.beginObject();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "name" -> name = in.nextString();
+                case "enabled" -> enabled = in.nextBoolean();
+                case "bind" -> bind = in.nextInt();
+                case "bindMods" -> bindMods = in.nextInt();
+                case "binding" -> binding = in.nextString();
+                case "settings" -> settings = readSettings(in);
+                default -> in.skipValue();
+            }
+        }
+        in.endObject();
+        return name == null ? null : new ConfigData.ModuleRecord(name, enabled, bind, bindMods, binding, settings);
+    }
+
+    private static List<ConfigData.SettingRecord> readSettings(JsonReader in) throws IOException {
+        List<ConfigData.SettingRecord> settings = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            String name = null;
+            String type = null;
+            Object value = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name" -> name = in.nextString();
+                    case "type" -> type = in.nextString();
+                    case "value" -> {
+                        // "type" у нас всегда пишется раньше "value"; в чужом порядке значение не разобрать без дерева
+                        SettingSerializer<?, Object> serializer = type == null ? null : SettingSerializers.byType(type);
+                        if (serializer == null || in.peek() == JsonToken.NULL) {
+                            in.skipValue();
+                        } else {
+                            value = serializer.read(in);
+                        }
+                    }
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            if (name != null && value != null) {
+                settings.add(new ConfigData.SettingRecord(name, type, value));
+            }
+        }
+        in.endArray();
+        return settings;
+    }
+}
@@ -0,0 +1,16 @@
+package wtf.taksa.manager;
+
+import java.util.List;
+
+/**
+ * Снимок конфига без ссылок на живые модули: его можно сериализовать в фоне и хранить для ещё не созданных модулей.
+ * Значения настроек — снимки из {@link SettingSerializer#get}.
+ */
+public record ConfigData(boolean disclaimerAccepted, List<ModuleRecord> modules) {
+
+    public record ModuleRecord(String name, boolean enabled, int bind, int bindMods, String binding, List<SettingRecord> settings) {
+    }
+
+    public record SettingRecord(String name, String type, Object value) {
+    }
+}
@@ -0,0 +1,106 @@
+package wtf.taksa.manager;
+
+import wtf.taksa.module.BindIndex;
+import wtf.taksa.module.Module;
+import wtf.taksa.module.ModuleBinding;
+import wtf.taksa.module.ModuleHolder;
+import wtf.taksa.module.setting.Setting;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Минимальный набор изменений между текущим состоянием модулей и целевым конфигом.
+ * <p>{@link #add} сравнивает запись с модулем и запоминает только то, что отличается; совпадающие бинды, настройки
+ * и состояния не трогаются вовсе, так что модуль не переподписывается и не получает лишних {@code onEnable}.</p>
+ * <p>{@link #apply} идёт в порядке зависимостей: выключение модулей, затем бинды и настройки, затем включение —
+ * {@code onEnable} видит уже новые настройки, а выключаемые модули не реагируют на них. Подписки на шину меняются
+ * пачкой через {@link ModuleHolder#setEnabled}.</p>
+ */
+public final class ConfigDiff {
+    private final List<Module> disable = new ArrayList<>();
+    private final List<Module> enable = new ArrayList<>();
+    private final List<BindChange> binds = new ArrayList<>();
+    private final List<BindingChange> bindings = new ArrayList<>();
+    private final List<SettingChange> settings = new ArrayList<>();
+
+    public void add(Module module, ConfigData.ModuleRecord record) {
+        int bindMods = record.bindMods() & BindIndex.MODIFIER_MASK;
+        if (module.getBind() != record.bind() || module.getBindModifiers() != bindMods) {
+            binds.add(new BindChange(module, record.bind(), bindMods));
+        }
+
+        ModuleBinding binding = parseBinding(record.binding());
+        if (binding != null && binding != module.getBinding()) {
+            bindings.add(new BindingChange(module, binding));
+        }
+
+        if (!record.settings().isEmpty()) {
+            // индекс по имени вместо поиска по списку на каждую запись: сравнение линейно по числу настроек
+            Map<String, Setting<?>> byName = new HashMap<>();
+            for (Setting<?> setting : module.getSettings()) {
+                byName.putIfAbsent(setting.getName(), setting);
+            }
+
+            for (ConfigData.SettingRecord settingRecord : record.settings()) {
+                Setting<?> setting = byName.get(settingRecord.name());
+                if (setting == null) continue;
+                SettingSerializer<Setting<?>, Object> serializer = SettingSerializers.of(setting);
+                // тип настройки мог смениться между версиями, такую запись пропускаем
+                if (serializer == null || !serializer.type().equals(settingRecord.type())) continue;
+                if (!Objects.equals(serializer.get(setting), settingRecord.value())) {
+                    settings.add(new SettingChange(setting, serializer, settingRecord.value()));
+                }
+            }
+        }
+
+        if (record.enabled() != module.isEnabled()) {
+            (record.enabled() ? enable : disable).add(module);
+        }
+    }
+
+    public void apply(ModuleHolder holder) {
+        holder.setEnabled(disable, false);
+        for (BindChange change : binds) {
+            change.module.setBind(change.bind, change.modifiers);
+        }
+        for (BindingChange change : bindings) {
+            change.module.setBinding(change.binding);
+        }
+        for (SettingChange change : settings) {
+            change.serializer.set(change.setting, change.value);
+        }
+        holder.setEnabled(enable, true);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return число отдельных изменений: переключений, биндов и настроек
+     */
+    public int size() {
+        return disable.size() + enable.size() + binds.size() + bindings.size() + settings.size();
+    }
+
+    private static ModuleBinding parseBinding(String name) {
+        try {
+            return ModuleBinding.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record BindChange(Module module, int bind, int modifiers) {
+    }
+
+    private record BindingChange(Module module, ModuleBinding binding) {
+    }
+
+    private record SettingChange(Setting<?> setting, SettingSerializer<Setting<?>, Object> serializer, Object value) {
+    }
+}
@@ -1,35 +1,81 @@
 package wtf.taksa.manager;
 
-import com.google.gson.*;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
 import net.minecraft.client.MinecraftClient;
+import org.lwjgl.glfw.GLFW;
+import wtf.taksa.Taksa;
+import wtf.taksa.core.Core;
+import wtf.taksa.core.events.EventHandler;
+import wtf.taksa.core.events.minecraft.TickEvent;
+import wtf.taksa.core.events.module.ModuleEvents;
 import wtf.taksa.module.Module;
-import wtf.taksa.module.ModuleBinding;
 import wtf.taksa.module.ModuleHolder;
-import wtf.taksa.module.setting.*;
+import wtf.taksa.module.ModuleSlot;
+import wtf.taksa.module.setting.Setting;
 import wtf.taksa.usual.utils.chat.ChatUtil;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static wtf.taksa.usual.utils.minecraft.ContextWrapper.mc;
 /**
  * @author Kenny1337
  * @since 03.07.2025
  */
 public class ConfigManager {
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    static final String JSON_EXTENSION = ".json";
+    /**
+     * Бинарная копия профиля для быстрой загрузки, см. {@link BinaryConfigCodec}
+     */
+    static final String BINARY_EXTENSION = ".cfg";
+
     private final Path configDir;
-    private final Path defaultConfig;
     private final ModuleHolder moduleHolder;
 
+    /**
+     * Записи конфига для модулей, которые ещё не создавались, по имени модуля
+     */
+    private final Map<String, ConfigData.ModuleRecord> pendingModules = new HashMap<>();
+
+    /**
+     * Сколько ждать тишины после изменения перед автосохранением
+     */
+    private static final long SAVE_DELAY_MS = 1000;
+    /**
+     * Дольше этого автосохранение не откладывается, даже если изменения идут непрерывно (тянут слайдер)
+     */
+    private static final long MAX_SAVE_DELAY_MS = 5000;
+
+    private final ConfigWriter writer = new ConfigWriter();
+    private ConfigWatcher watcher;
+    private volatile long lastChange;
+    private volatile long dirtySince;
+    private volatile String activeConfig = "default";
+    private boolean loading;
+
     private boolean disclaimerAccepted = false;
 
     public ConfigManager(ModuleHolder moduleHolder) {
         this.moduleHolder = moduleHolder;
+        Core.subscribe(this);
+        ClientLifecycleEvents.CLIENT_STOPPING.register(client -> shutdown());
+        moduleHolder.addCreationListener(module -> {
+            ConfigData.ModuleRecord pending = pendingModules.remove(module.getName());
+            if (pending != null) {
+                ConfigDiff diff = new ConfigDiff();
+                diff.add(module, pending);
+                applyDiff(diff);
+            }
+        });
         this.configDir = Paths.get(MinecraftClient.getInstance().runDirectory.getPath(), "taksa", "configs");
-        this.defaultConfig = this.configDir.resolve("default.json");
 
         try {
             if (!Files.exists(configDir)) {
@@ -38,181 +84,289 @@ public class ConfigManager {
         } catch (IOException e) {
             ChatUtil.clientError("Не удалось создать директорию конфигов: " + e.getMessage());
         }
+
+        try {
+            watcher = new ConfigWatcher(configDir, writer::isOwnWrite, name -> mc.execute(() -> onExternalChange(name)));
+        } catch (IOException e) {
+            // без наблюдателя список профилей читается с диска на каждый запрос, а правки на диске не подхватываются
+            Taksa.LOGGER.warn("Не удалось запустить наблюдение за {}", configDir, e);
+        }
+    }
+
+    /**
+     * Файл активного профиля изменили извне (руками или синхронизацией) — применяем его разницей с текущим состоянием
+     */
+    private void onExternalChange(String name) {
+        if (!name.equals(activeConfig)) return;
+        ChatUtil.clientMessage("§7Конфигурация §f" + name + " §7изменена на диске, применяю");
+        loadConfig(name);
     }
+    /**
+     * Сохраняет конфиг в фоне. Снимок состояния модулей снимается здесь же, на вызывающем потоке
+     */
     public void saveConfig(String configName) {
         if (configName == null || configName.isEmpty()) {
             configName = "default";
         }
+        String name = configName;
+        if (name.equals(activeConfig)) {
+            clearDirty();
+        }
+        write(name, snapshot(), () -> ChatUtil.clientMessage("§aКонфигурация §f" + name + " §aуспешно сохранена"));
+    }
 
-        Path configFile = configDir.resolve(configName + ".json");
+    /**
+     * Ставит в очередь обе формы профиля. JSON идёт первым, так что {@code .cfg} никогда не оказывается старше него
+     */
+    private void write(String name, ConfigData data, Runnable onSaved) {
+        writer.submit(jsonFile(name), () -> ConfigCodec.encode(data), onSaved);
+        writer.submit(binaryFile(name), () -> BinaryConfigCodec.encode(data), null);
+    }
 
-        try {
-            if (!Files.exists(configFile.getParent())) {
-                Files.createDirectories(configFile.getParent());
-            }
+    private Path jsonFile(String name) {
+        return configDir.resolve(name + JSON_EXTENSION);
+    }
 
-            JsonObject root = new JsonObject();
-
-            root.addProperty("disclaimerAccepted", disclaimerAccepted);
-
-            JsonArray modulesArray = new JsonArray();
-
-            for (Module module : moduleHolder.getModules()) {
-                JsonObject moduleObj = new JsonObject();
-                moduleObj.addProperty("name", module.getName());
-                moduleObj.addProperty("enabled", module.isEnabled());
-                moduleObj.addProperty("bind", module.getBind());
-                moduleObj.addProperty("binding", module.getBinding().name());
-
-                if (!module.getSettings().isEmpty()) {
-                    JsonArray settingsArray = new JsonArray();
-
-                    for (Setting<?> setting : module.getSettings()) {
-                        JsonObject settingObj = new JsonObject();
-                        settingObj.addProperty("name", setting.getName());
-
-                        if (setting instanceof BooleanSetting) {
-                            settingObj.addProperty("type", "boolean");
-                            settingObj.addProperty("value", ((BooleanSetting) setting).getValue());
-                        } else if (setting instanceof DoubleSetting) {
-                            settingObj.addProperty("type", "double");
-                            settingObj.addProperty("value", ((DoubleSetting) setting).getValue());
-                        } else if (setting instanceof ListSetting) {
-                            settingObj.addProperty("type", "list");
-                            JsonObject listValues = new JsonObject();
-                            for (Map.Entry<String, Boolean> entry : ((ListSetting) setting).getValue().entrySet()) {
-                                listValues.addProperty(entry.getKey(), entry.getValue());
-                            }
-                            settingObj.add("value", listValues);
-                        } else if (setting instanceof ModeSetting) {
-                            settingObj.addProperty("type", "mode");
-                            settingObj.addProperty("value", ((ModeSetting) setting).getValue());
-                        } else if (setting instanceof BindSetting) {
-                            settingObj.addProperty("type", "bind");
-                            settingObj.addProperty("value", ((BindSetting) setting).getValue());
-                        }
-
-                        settingsArray.add(settingObj);
-                    }
-
-                    moduleObj.add("settings", settingsArray);
-                }
+    private Path binaryFile(String name) {
+        return configDir.resolve(name + BINARY_EXTENSION);
+    }
 
-                modulesArray.add(moduleObj);
+    /**
+     * Снимает значения модулей в неизменяемый {@link ConfigData}; в файлы он кодируется уже на потоке записи
+     */
+    private ConfigData snapshot() {
+        List<ConfigData.ModuleRecord> modules = new ArrayList<>();
+
+        for (ModuleSlot<?> slot : moduleHolder.getSlots()) {
+            Module module = slot.getIfCreated();
+            if (module != null) {
+                modules.add(serializeModule(module));
+            } else {
+                // модуль так и не создавался — сохраняем его запись из загруженного конфига как есть
+                ConfigData.ModuleRecord pending = pendingModules.get(slot.getDescriptor().name());
+                if (pending != null) {
+                    modules.add(pending);
+                }
             }
+        }
 
-            root.add("modules", modulesArray);
+        return new ConfigData(disclaimerAccepted, modules);
+    }
 
-            try (Writer writer = Files.newBufferedWriter(configFile, StandardCharsets.UTF_8)) {
-                GSON.toJson(root, writer);
-                ChatUtil.clientMessage("§aКонфигурация §f" + configName + " §aуспешно сохранена");
-            }
-        } catch (Exception e) {
-            ChatUtil.clientError("Ошибка при сохранении конфигурации: " + e.getMessage());
+    /**
+     * Любое изменение модуля только помечает конфиг грязным, запись делает {@link #onTick}
+     */
+    @EventHandler
+    public void onModuleChanged(ModuleEvents.Changed event) {
+        if (!loading) {
+            markDirty();
+        }
+    }
+
+    @EventHandler
+    public void onTick(TickEvent event) {
+        long changed = lastChange;
+        if (changed == 0) return;
+        long now = System.currentTimeMillis();
+        // ждём паузы в изменениях, но не дольше MAX_SAVE_DELAY_MS с первого из них
+        if (now - changed < SAVE_DELAY_MS && now - dirtySince < MAX_SAVE_DELAY_MS) return;
+        clearDirty();
+        write(activeConfig, snapshot(), null);
+    }
+
+    public void markDirty() {
+        long now = System.currentTimeMillis();
+        if (dirtySince == 0) {
+            dirtySince = now;
         }
+        lastChange = now;
+    }
+
+    private void clearDirty() {
+        lastChange = 0;
+        dirtySince = 0;
+    }
+
+    /**
+     * Общий поток записи, им же пользуется {@link FriendManager}; закрывается в {@link #shutdown()}
+     */
+    ConfigWriter getWriter() {
+        return writer;
+    }
+
+    private void shutdown() {
+        if (watcher != null) {
+            watcher.close();
+        }
+        if (lastChange != 0) {
+            clearDirty();
+            write(activeConfig, snapshot(), null);
+        }
+        writer.close(5000);
     }
     public void loadConfig(String configName) {
         if (configName == null || configName.isEmpty()) {
             configName = "default";
         }
 
-        Path configFile = configDir.resolve(configName + ".json");
+        try {
+            ConfigData data = readConfig(configName);
+            if (data != null) {
+                applyConfig(configName, data);
+            }
+        } catch (Exception e) {
+            ChatUtil.clientError("Ошибка при загрузке конфигурации: " + e.getMessage());
+        }
+    }
 
-        if (!Files.exists(configFile)) {
+    /**
+     * Читает профиль с диска, не трогая модули, так что можно звать с любого потока.
+     * Если одна из форм профиля устарела или отсутствует, заодно ставит её пересборку в очередь записи
+     *
+     * @return прочитанный конфиг или {@code null}, если профиля нет (об этом уже сообщено в чат)
+     */
+    public ConfigData readConfig(String configName) throws IOException {
+        Path jsonFile = jsonFile(configName);
+        Path binaryFile = binaryFile(configName);
+        boolean hasJson = Files.exists(jsonFile);
+        boolean hasBinary = Files.exists(binaryFile);
+
+        if (!hasJson && !hasBinary) {
             ChatUtil.clientError("Конфигурация не найдена: " + configName);
-            return;
+            return null;
         }
 
-        try (Reader reader = Files.newBufferedReader(configFile, StandardCharsets.UTF_8)) {
-            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
-
-            if (root.has("disclaimerAccepted")) {
-                disclaimerAccepted = root.get("disclaimerAccepted").getAsBoolean();
-            } else {
-                disclaimerAccepted = false;
+        // JSON правят руками: .cfg читаем, только если он строго новее, иначе читаем JSON и пересобираем .cfg.
+        // При равных временах (ФС с точностью до секунды) правка JSON могла попасть в ту же секунду, что и запись .cfg
+        boolean binaryFresh = hasBinary && (!hasJson
+                || Files.getLastModifiedTime(binaryFile).compareTo(Files.getLastModifiedTime(jsonFile)) > 0);
+        ConfigData data;
+        if (binaryFresh) {
+            data = BinaryConfigCodec.read(binaryFile);
+        } else {
+            try (Reader reader = Files.newBufferedReader(jsonFile, StandardCharsets.UTF_8)) {
+                data = ConfigCodec.read(reader);
             }
+        }
 
-            JsonArray modulesArray = root.getAsJsonArray("modules");
+        if (!binaryFresh) {
+            writer.submit(binaryFile, () -> BinaryConfigCodec.encode(data), null);
+        } else if (!hasJson) {
+            writer.submit(jsonFile, () -> ConfigCodec.encode(data), null);
+        }
+        return data;
+    }
 
-            for (JsonElement moduleElement : modulesArray) {
-                JsonObject moduleObj = moduleElement.getAsJsonObject();
-                String name = moduleObj.get("name").getAsString();
+    /**
+     * Применяет прочитанный {@link #readConfig} профиль и делает его активным, только на главном потоке
+     */
+    public void applyConfig(String configName, ConfigData data) {
+        int changes = apply(data);
+        activeConfig = configName;
+        clearDirty();
+        ChatUtil.clientMessage("§aКонфигурация §f" + configName + " §aуспешно загружена §7(изменений: " + changes + ")");
+    }
 
-                Module module = moduleHolder.getModule(name);
-                if (module == null) {
-                    continue;
-                }
+    /**
+     * Применяет конфиг поверх текущего состояния: меняется только то, что отличается, см. {@link ConfigDiff}
+     *
+     * @return число применённых изменений
+     */
+    private int apply(ConfigData data) {
+        disclaimerAccepted = data.disclaimerAccepted();
+        ConfigDiff diff = new ConfigDiff();
+
+        for (ConfigData.ModuleRecord record : data.modules()) {
+            ModuleSlot<?> slot = moduleHolder.getSlot(record.name());
+            if (slot == null) {
+                continue;
+            }
 
-                boolean enabled = moduleObj.get("enabled").getAsBoolean();
-                int bind = moduleObj.get("bind").getAsInt();
-                String binding = moduleObj.has("binding") ?
-                        moduleObj.get("binding").getAsString() : ModuleBinding.TOGGLE.name();
-
-                module.setBind(bind);
-                module.setBinding(ModuleBinding.valueOf(binding));
-
-                if (moduleObj.has("settings")) {
-                    JsonArray settingsArray = moduleObj.getAsJsonArray("settings");
-
-                    for (JsonElement settingElement : settingsArray) {
-                        JsonObject settingObj = settingElement.getAsJsonObject();
-                        String settingName = settingObj.get("name").getAsString();
-                        String type = settingObj.get("type").getAsString();
-
-                        for (Setting<?> setting : module.getSettings()) {
-                            if (setting.getName().equals(settingName)) {
-                                switch (type) {
-                                    case "boolean":
-                                        ((BooleanSetting) setting).setValue(settingObj.get("value").getAsBoolean());
-                                        break;
-                                    case "double":
-                                        ((DoubleSetting) setting).setValue(settingObj.get("value").getAsDouble());
-                                        break;
-                                    case "list":
-                                        JsonObject listValues = settingObj.getAsJsonObject("value");
-                                        ListSetting listSetting = (ListSetting) setting;
-                                        for (Map.Entry<String, JsonElement> entry : listValues.entrySet()) {
-                                            listSetting.setValue(entry.getKey(), entry.getValue().getAsBoolean());
-                                        }
-                                        break;
-                                    case "mode":
-                                        ((ModeSetting) setting).setValue(settingObj.get("value").getAsString());
-                                        break;
-                                    case "bind":
-                                        ((BindSetting) setting).setValue(settingObj.get("value").getAsInt());
-                                        break;
-                                }
-                                break;
-                            }
-                        }
-                    }
-                }
+            String key = slot.getDescriptor().name();
+            pendingModules.remove(key);
+            if (!slot.isCreated() && isDormant(record)) {
+                // выключенный модуль без бинда не создаём, запись применится при первом создании
+                pendingModules.put(key, record);
+                continue;
+            }
 
-                if (enabled != module.isEnabled()) {
-                    module.toggle();
-                }
+            Module module = slot.get();
+            if (module != null) {
+                diff.add(module, record);
             }
+        }
 
-            ChatUtil.clientMessage("§aКонфигурация §f" + configName + " §aуспешно загружена");
-        } catch (Exception e) {
-            ChatUtil.clientError("Ошибка при загрузке конфигурации: " + e.getMessage());
+        applyDiff(diff);
+        return diff.size();
+    }
+
+    private static ConfigData.ModuleRecord serializeModule(Module module) {
+        List<ConfigData.SettingRecord> settings = new ArrayList<>(module.getSettings().size());
+        for (Setting<?> setting : module.getSettings()) {
+            SettingSerializer<Setting<?>, Object> serializer = SettingSerializers.of(setting);
+            if (serializer != null) {
+                settings.add(new ConfigData.SettingRecord(setting.getName(), serializer.type(), serializer.get(setting)));
+            }
         }
+        return new ConfigData.ModuleRecord(module.getName(), module.isEnabled(), module.getBind(), module.getBindModifiers(),
+                module.getBinding().name(), settings);
     }
-    public List<String> getAvailableConfigs() {
-        List<String> configNames = new ArrayList<>();
 
+    /**
+     * Изменения от самой загрузки не помечают конфиг грязным
+     */
+    private void applyDiff(ConfigDiff diff) {
+        if (diff.isEmpty()) return;
+        boolean wasLoading = loading;
+        loading = true;
         try {
-            Files.list(configDir)
-                    .filter(path -> path.toString().endsWith(".json"))
-                    .forEach(path -> {
-                        String fileName = path.getFileName().toString();
-                        configNames.add(fileName.substring(0, fileName.length() - 5));
-                    });
+            diff.apply(moduleHolder);
+        } finally {
+            loading = wasLoading;
+        }
+    }
+
+    /**
+     * Запись модуля, ради которой его не нужно создавать: выключен и не забинжен
+     */
+    private static boolean isDormant(ConfigData.ModuleRecord record) {
+        return !record.enabled() && record.bind() == GLFW.GLFW_KEY_UNKNOWN;
+    }
+
+    /**
+     * @return имена профилей по алфавиту; с наблюдателем — из индекса в памяти, без обращения к диску
+     */
+    public List<String> getAvailableConfigs() {
+        if (watcher != null) {
+            return watcher.getConfigs();
+        }
+
+        Set<String> configNames = new TreeSet<>();
+
+        try (Stream<Path> files = Files.list(configDir)) {
+            files.forEach(path -> {
+                String name = profileName(path.getFileName().toString());
+                if (name != null) {
+                    configNames.add(name);
+                }
+            });
         } catch (IOException e) {
             ChatUtil.clientError("Ошибка при получении списка конфигураций: " + e.getMessage());
         }
 
-        return configNames;
+        return new ArrayList<>(configNames);
+    }
+
+    /**
+     * @return имя профиля по имени файла или {@code null}, если это не файл конфига
+     */
+    static String profileName(String fileName) {
+        for (String extension : new String[]{JSON_EXTENSION, BINARY_EXTENSION}) {
+            if (fileName.endsWith(extension)) {
+                return fileName.substring(0, fileName.length() - extension.length());
+            }
+        }
+        return null;
     }
 
     public void deleteConfig(String configName) {
@@ -221,11 +375,25 @@ public class ConfigManager {
             return;
         }
 
-        Path configFile = configDir.resolve(configName + ".json");
+        boolean wasActive = configName.equals(activeConfig);
+        if (wasActive) {
+            // иначе автосохранение или сохранение при выходе запишет удалённый профиль обратно
+            activeConfig = "default";
+            clearDirty();
+        }
+        Path jsonFile = jsonFile(configName);
+        Path binaryFile = binaryFile(configName);
+        writer.cancel(jsonFile);
+        writer.cancel(binaryFile);
 
         try {
-            if (Files.deleteIfExists(configFile)) {
+            boolean deleted = Files.deleteIfExists(jsonFile);
+            deleted |= Files.deleteIfExists(binaryFile);
+            if (deleted) {
                 ChatUtil.clientMessage("§aКонфигурация §f" + configName + " §aуспешно удалена");
+                if (wasActive) {
+                    ChatUtil.clientMessage("§7Изменения теперь сохраняются в §fdefault");
+                }
             } else {
                 ChatUtil.clientError("Конфигурация не найдена: " + configName);
             }
@@ -234,14 +402,17 @@ public class ConfigManager {
         }
     }
     public void loadDefaultConfig() {
-        if (!Files.exists(defaultConfig)) {
-            saveConfig("default");
+        if (!Files.exists(jsonFile("default")) && !Files.exists(binaryFile("default"))) {
+            // загружать нечего, просто создаём файл со значениями по умолчанию
+            activeConfig = "default";
+            write("default", snapshot(), null);
+            return;
         }
         loadConfig("default");
     }
     public void setDisclaimerAccepted(boolean accepted) {
         this.disclaimerAccepted = accepted;
-        saveConfig("default");
+        markDirty();
     }
     public boolean isDisclaimerAccepted() {
         return disclaimerAccepted;
@@ -0,0 +1,142 @@
+package wtf.taksa.manager;
+
+import wtf.taksa.Taksa;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Следит за директорией конфигов через {@link WatchService} на потоке "Taksa Config Watcher".
+ * <p>Держит в памяти отсортированный список профилей, так что {@link #getConfigs()} не ходит на диск.
+ * Изменения файлов копятся, пока директория не затихнет на {@link #QUIET_MS}: редактор, сохраняющий файл в несколько
+ * приёмов, даёт одно уведомление. Свои записи (их узнаёт {@code ownWrite}) уведомлений не дают.</p>
+ */
+public class ConfigWatcher {
+    private static final long QUIET_MS = 250;
+
+    private final Path dir;
+    private final Predicate<Path> ownWrite;
+    private final Consumer<String> onExternalChange;
+    private final Set<String> configs = new ConcurrentSkipListSet<>();
+    private final WatchService service;
+    private final Thread thread;
+
+    /**
+     * @param ownWrite         отличает файлы, только что записанные самим клиентом
+     * @param onExternalChange получает имя профиля, чей файл изменили извне; вызывается на потоке наблюдателя
+     */
+    public ConfigWatcher(Path dir, Predicate<Path> ownWrite, Consumer<String> onExternalChange) throws IOException {
+        this.dir = dir;
+        this.ownWrite = ownWrite;
+        this.onExternalChange = onExternalChange;
+        this.service = dir.getFileSystem().newWatchService();
+        dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+        rescan();
+
+        this.thread = new Thread(this::run, "Taksa Config Watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * @return имена профилей по алфавиту
+     */
+    public List<String> getConfigs() {
+        return List.copyOf(configs);
+    }
+
+    public void close() {
+        try {
+            service.close();
+        } catch (IOException e) {
+            Taksa.LOGGER.warn("Не удалось закрыть наблюдение за конфигами", e);
+        }
+    }
+
+    private void run() {
+        Set<Path> changed = new HashSet<>();
+        try {
+            while (true) {
+                WatchKey key = changed.isEmpty() ? service.take() : service.poll(QUIET_MS, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    // директория затихла — разбираем накопленное
+                    flush(changed);
+                    changed.clear();
+                    continue;
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        rescan();
+                        continue;
+                    }
+                    Path file = dir.resolve((Path) event.context());
+                    String name = ConfigManager.profileName(file.getFileName().toString());
+                    if (name == null) continue;
+                    updateIndex(name);
+                    if (event.kind() != StandardWatchEventKinds.ENTRY_DELETE) {
+                        changed.add(file);
+                    }
+                }
+                if (!key.reset()) {
+                    Taksa.LOGGER.warn("Директория конфигов {} больше недоступна для наблюдения", dir);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // штатная остановка из close()
+        }
+    }
+
+    private void flush(Set<Path> changed) {
+        Set<String> names = new HashSet<>();
+        for (Path file : changed) {
+            if (Files.exists(file) && !ownWrite.test(file)) {
+                names.add(ConfigManager.profileName(file.getFileName().toString()));
+            }
+        }
+        for (String name : names) {
+            onExternalChange.accept(name);
+        }
+    }
+
+    private void updateIndex(String name) {
+        if (Files.exists(dir.resolve(name + ConfigManager.JSON_EXTENSION)) || Files.exists(dir.resolve(name + ConfigManager.BINARY_EXTENSION))) {
+            configs.add(name);
+        } else {
+            configs.remove(name);
+        }
+    }
+
+    private void rescan() {
+        Set<String> found = new HashSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+            for (Path file : files) {
+                String name = ConfigManager.profileName(file.getFileName().toString());
+                if (name != null) {
+                    found.add(name);
+                }
+            }
+        } catch (IOException e) {
+            Taksa.LOGGER.error("Не удалось прочитать директорию конфигов {}", dir, e);
+            return;
+        }
+        configs.retainAll(found);
+        configs.addAll(found);
+    }
+}
@@ -0,0 +1,148 @@
+package wtf.taksa.manager;
+
+import wtf.taksa.Taksa;
+import wtf.taksa.usual.utils.chat.ChatUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static wtf.taksa.usual.utils.minecraft.ContextWrapper.mc;
+
+/**
+ * Фоновая запись конфигов на отдельном потоке "Taksa Config Writer".
+ * <p>Снимок документа собирается вызывающим (на главном потоке), сюда приходит {@link Payload}, который кодируется
+ * в байты уже на этом потоке: сериализация и диск не трогают ни рендер, ни тик. Пока запись файла стоит в очереди, новые снимки того же файла
+ * заменяют старый, так что серия сохранений даёт одну запись.</p>
+ * <p>Файл пишется во временный рядом, сбрасывается на диск через {@code force} и атомарно переименовывается поверх
+ * старого: при падении посреди записи остаётся либо старый, либо новый конфиг целиком.</p>
+ * <p>После {@link #close(long)} поток остановлен, и {@link #submit} пишет файл синхронно на вызывающем потоке.</p>
+ */
+public class ConfigWriter {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Taksa Config Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Path, Write> pending = new ConcurrentHashMap<>();
+    /**
+     * Время изменения каждого файла сразу после нашей записи, по нему {@link ConfigWatcher} узнаёт свои же записи
+     */
+    private final Map<Path, FileTime> written = new ConcurrentHashMap<>();
+    /**
+     * Держится на время записи одного файла, чтобы {@link #cancel} дождался уже начатой записи
+     */
+    private final Object writeLock = new Object();
+
+    /**
+     * Содержимое файла, кодируется на потоке записи. Не должно ссылаться на изменяемое состояние главного потока
+     */
+    @FunctionalInterface
+    public interface Payload {
+        byte[] encode() throws IOException;
+    }
+
+    /**
+     * Ставит снимок в очередь записи
+     *
+     * @param onSaved вызывается на главном потоке после успешной записи, может быть {@code null}
+     */
+    public void submit(Path file, Payload payload, Runnable onSaved) {
+        if (pending.put(file, new Write(payload, onSaved)) == null) {
+            try {
+                executor.execute(() -> drain(file));
+            } catch (RejectedExecutionException e) {
+                // писатель уже закрыт (выход из игры), фонового потока больше нет
+                drain(file);
+            }
+        }
+    }
+
+    /**
+     * Снимает файл с очереди. Если он пишется прямо сейчас, дожидается конца записи, так что после возврата
+     * ни ожидавший, ни уже начатый снимок файл не пересоздаст
+     */
+    public void cancel(Path file) {
+        synchronized (writeLock) {
+            pending.remove(file);
+            written.remove(file);
+        }
+    }
+
+    /**
+     * @return {@code true}, если файл стоит в очереди на запись или лежит на диске ровно таким, каким мы его записали
+     */
+    public boolean isOwnWrite(Path file) {
+        if (pending.containsKey(file)) return true;
+        FileTime time = written.get(file);
+        try {
+            return time != null && time.equals(Files.getLastModifiedTime(file));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Дописывает всё из очереди и останавливает поток, вызывается при выходе из игры
+     */
+    public void close(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                Taksa.LOGGER.warn("Запись конфигов не успела завершиться за {} мс", timeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain(Path file) {
+        synchronized (writeLock) {
+            Write write = pending.remove(file);
+            if (write == null) return;
+            try {
+                writeAtomically(file, write.payload.encode());
+                written.put(file, Files.getLastModifiedTime(file));
+                if (write.onSaved != null) {
+                    mc.execute(write.onSaved);
+                }
+            } catch (IOException e) {
+                Taksa.LOGGER.error("Не удалось записать конфиг {}", file, e);
+                String message = e.getMessage();
+                mc.execute(() -> ChatUtil.clientError("Ошибка при сохранении конфигурации: " + message));
+            }
+        }
+    }
+
+    static void writeAtomically(Path file, byte[] data) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private record Write(Payload payload, Runnable onSaved) {
+    }
+}
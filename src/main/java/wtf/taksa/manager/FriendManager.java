@@ -1,40 +1,231 @@
 package wtf.taksa.manager;
 
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.client.network.PlayerListEntry;
+import net.minecraft.entity.player.PlayerEntity;
+import wtf.taksa.Taksa;
 import wtf.taksa.usual.utils.chat.ChatUtil;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static wtf.taksa.usual.utils.minecraft.ContextWrapper.mc;
+
+/**
+ * Список друзей, сохраняется в {@code taksa/friends.json}.
+ * <p>Проверки регистронезависимы и стоят O(1) без аллокаций: {@link #isFriend} можно звать на каждую сущность
+ * из тика и рендера. Чтение идёт из неизменяемых снимков, изменения пересобирают снимок и сохраняются в фоне
+ * через {@link ConfigWriter} конфигов.</p>
+ */
 public class FriendManager {
-    private final List<String> friends = new ArrayList<>();
+    /**
+     * Ключ {@link #fold(String)} → имя в том виде, в каком его добавили; порядок добавления сохраняется
+     */
+    private final Map<String, String> friends = new LinkedHashMap<>();
+    private volatile NameTable names = NameTable.EMPTY;
+    private volatile List<String> view = List.of();
+    /**
+     * Результаты {@link #isFriend(UUID)}, сбрасываются при изменении списка, выходе с сервера и переполнении
+     */
+    private final Map<UUID, Boolean> byUuid = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_UUIDS = 1024;
+
+    private final Path file = Paths.get(mc.runDirectory.getPath(), "taksa", "friends.json");
+    private final ConfigWriter writer;
+
+    /**
+     * @param configManager его поток записи используется и для списка друзей, он же закрывается при выходе
+     */
+    public FriendManager(ConfigManager configManager) {
+        this.writer = configManager.getWriter();
+        load();
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> byUuid.clear());
+    }
 
     public void add(String name) {
-        if (friends.contains(name)) {
-            ChatUtil.clientCommand("Друг " + name + " уже существует!");
+        String key = fold(name);
+        if (friends.containsKey(key)) {
+            ChatUtil.clientCommand("Друг " + friends.get(key) + " уже существует!");
             return;
         }
 
-        friends.add(name);
+        friends.put(key, name);
+        changed();
         ChatUtil.clientCommand("Друг " + name + " успешно добавлен");
     }
 
     public void del(String name) {
-        if (!friends.contains(name)) {
+        String removed = friends.remove(fold(name));
+        if (removed == null) {
             ChatUtil.clientCommand("Нету друга с ником " + name);
             return;
         }
 
-        friends.remove(name);
-        ChatUtil.clientCommand("Друг " + name + " успешно удален");
+        changed();
+        ChatUtil.clientCommand("Друг " + removed + " успешно удален");
     }
 
     public void clear() {
         friends.clear();
+        changed();
         ChatUtil.clientCommand("Все друзья очищены");
     }
 
+    /**
+     * @return имена в порядке добавления, неизменяемый снимок
+     */
     public List<String> friendsList() {
-        return Collections.unmodifiableList(friends);
+        return view;
+    }
+
+    public boolean isFriend(String name) {
+        return name != null && names.contains(name);
+    }
+
+    public boolean isFriend(PlayerEntity player) {
+        return isFriend(player.getGameProfile().getName());
+    }
+
+    /**
+     * Проверка по UUID: имя берётся из таблицы игроков сервера, результат кэшируется до изменения списка.
+     * Игрок, которого нет в таблице, другом не считается и в кэш не попадает
+     */
+    public boolean isFriend(UUID uuid) {
+        Boolean cached = byUuid.get(uuid);
+        if (cached != null) return cached;
+
+        ClientPlayNetworkHandler handler = mc.getNetworkHandler();
+        PlayerListEntry entry = handler == null ? null : handler.getPlayerListEntry(uuid);
+        if (entry == null) return false;
+
+        boolean friend = isFriend(entry.getProfile().getName());
+        if (byUuid.size() >= MAX_CACHED_UUIDS) {
+            byUuid.clear();
+        }
+        byUuid.put(uuid, friend);
+        return friend;
+    }
+
+    private void changed() {
+        publish();
+        byUuid.clear();
+        List<String> names = view;
+        writer.submit(file, () -> encode(names), null);
+    }
+
+    private void load() {
+        if (!Files.exists(file)) return;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonReader in = new JsonReader(reader);
+            in.beginArray();
+            while (in.hasNext()) {
+                String name = in.nextString();
+                friends.putIfAbsent(fold(name), name);
+            }
+            in.endArray();
+        } catch (IOException | IllegalStateException e) {
+            Taksa.LOGGER.error("Не удалось загрузить список друзей {}", file, e);
+        }
+        publish();
+    }
+
+    private void publish() {
+        view = List.copyOf(friends.values());
+        names = new NameTable(friends.keySet());
+    }
+
+    private static byte[] encode(List<String> names) throws IOException {
+        StringWriter buffer = new StringWriter();
+        JsonWriter out = new JsonWriter(buffer);
+        out.setIndent("  ");
+        out.beginArray();
+        for (String name : names) {
+            out.value(name);
+        }
+        out.endArray();
+        out.flush();
+        return buffer.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ключ имени без учёта регистра. Свёртка посимвольная, как в {@link NameTable#contains}: ключ карты и проверка
+     * в таблице обязаны совпадать, а {@link String#toLowerCase} для части не-ASCII символов меняет длину строки
+     */
+    private static String fold(String name) {
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Неизменяемая хэш-таблица ключей {@link #fold(String)} с открытой адресацией. Проверяемое имя сворачивается
+     * посимвольно прямо при хэшировании и сравнении, поэтому проверка не создаёт строк
+     */
+    private static final class NameTable {
+        private static final NameTable EMPTY = new NameTable(List.of());
+
+        private final String[] slots;
+        private final int mask;
+
+        private NameTable(Collection<String> keys) {
+            // заполнение не больше половины, так что пустая ячейка всегда есть и поиск останавливается
+            int capacity = Integer.highestOneBit(Math.max(4, keys.size() * 2) - 1) << 1;
+            slots = new String[capacity];
+            mask = capacity - 1;
+            for (String key : keys) {
+                int i = spread(key.hashCode()) & mask;
+                while (slots[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                slots[i] = key;
+            }
+        }
+
+        /**
+         * То же, что {@code keys.contains(fold(name))}
+         */
+        private boolean contains(String name) {
+            int length = name.length();
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + fold(name.charAt(i));
+            }
+            for (int i = spread(hash) & mask; slots[i] != null; i = (i + 1) & mask) {
+                if (matches(slots[i], name)) return true;
+            }
+            return false;
+        }
+
+        private static boolean matches(String key, String name) {
+            if (key.length() != name.length()) return false;
+            for (int i = 0; i < key.length(); i++) {
+                if (key.charAt(i) != fold(name.charAt(i))) return false;
+            }
+            return true;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
     }
 }
@@ -0,0 +1,36 @@
+package wtf.taksa.manager;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import wtf.taksa.module.setting.Setting;
+
+import java.io.IOException;
+
+/**
+ * Сериализация значения одного типа настройки, см. {@link SettingSerializers}.
+ * <p>Значение снимается с настройки и применяется к ней на главном потоке ({@link #get}/{@link #set}),
+ * а пишется и читается потоково без экземпляра настройки ({@link #write}/{@link #read} для JSON,
+ * {@link #writeBinary}/{@link #readBinary} для {@link BinaryConfigCodec}) — так запись идёт в фоне,
+ * а конфиг модуля, который ещё не создан, можно держать уже разобранным.</p>
+ *
+ * @param <S> тип настройки
+ * @param <V> неизменяемый снимок значения
+ */
+public interface SettingSerializer<S extends Setting<?>, V> {
+    /**
+     * @return значение поля {@code "type"} в конфиге
+     */
+    String type();
+
+    V get(S setting);
+
+    void set(S setting, V value);
+
+    void write(JsonWriter out, V value) throws IOException;
+
+    V read(JsonReader in) throws IOException;
+
+    void writeBinary(BinaryConfigCodec.Output out, V value);
+
+    V readBinary(BinaryConfigCodec.Input in);
+}
@@ -0,0 +1,211 @@
+package wtf.taksa.manager;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import wtf.taksa.module.setting.BindSetting;
+import wtf.taksa.module.setting.BooleanSetting;
+import wtf.taksa.module.setting.DoubleSetting;
+import wtf.taksa.module.setting.ListSetting;
+import wtf.taksa.module.setting.ModeSetting;
+import wtf.taksa.module.setting.Setting;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Реестр {@link SettingSerializer} по классу настройки и по имени типа в конфиге.
+ * <p>Как и в {@code SettingComponentFactory}, для класса без своего сериализатора берётся сериализатор
+ * ближайшего суперкласса, результат кэшируется. Новый тип настройки подключается одним {@link #register}.</p>
+ */
+public final class SettingSerializers {
+    private static final Map<Class<?>, SettingSerializer<?, ?>> BY_CLASS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Object> RESOLVED = new ConcurrentHashMap<>();
+    private static final Map<String, SettingSerializer<?, ?>> BY_TYPE = new ConcurrentHashMap<>();
+    private static final Object UNSUPPORTED = new Object();
+
+    static {
+        register(BooleanSetting.class, SettingSerializers.<BooleanSetting, Boolean>simple("boolean",
+                BooleanSetting::getBoolean, BooleanSetting::setBoolean,
+                (out, value) -> out.value(value.booleanValue()), JsonReader::nextBoolean,
+                BinaryConfigCodec.Output::writeBoolean, BinaryConfigCodec.Input::readBoolean));
+        register(DoubleSetting.class, SettingSerializers.<DoubleSetting, Double>simple("double",
+                DoubleSetting::getDouble, DoubleSetting::setDouble,
+                (out, value) -> out.value(value.doubleValue()), JsonReader::nextDouble,
+                BinaryConfigCodec.Output::writeDouble, BinaryConfigCodec.Input::readDouble));
+        register(ModeSetting.class, SettingSerializers.<ModeSetting, String>simple("mode",
+                ModeSetting::getValue, ModeSetting::setValue,
+                JsonWriter::value, JsonReader::nextString,
+                BinaryConfigCodec.Output::writeString, BinaryConfigCodec.Input::readString));
+        register(BindSetting.class, SettingSerializers.<BindSetting, Integer>simple("bind",
+                BindSetting::getInt, BindSetting::setInt,
+                (out, value) -> out.value(value.intValue()), JsonReader::nextInt,
+                BinaryConfigCodec.Output::writeSignedVarInt, BinaryConfigCodec.Input::readSignedVarInt));
+        register(ListSetting.class, new ListSerializer());
+    }
+
+    private SettingSerializers() {
+    }
+
+    public static <S extends Setting<?>> void register(Class<S> type, SettingSerializer<S, ?> serializer) {
+        BY_CLASS.put(type, serializer);
+        BY_TYPE.put(serializer.type(), serializer);
+        RESOLVED.clear();
+    }
+
+    /**
+     * @return сериализатор для настройки или {@code null}, если тип не сохраняется
+     */
+    @SuppressWarnings("unchecked")
+    public static SettingSerializer<Setting<?>, Object> of(Setting<?> setting) {
+        Object serializer = RESOLVED.computeIfAbsent(setting.getClass(), SettingSerializers::resolve);
+        return serializer == UNSUPPORTED ? null : (SettingSerializer<Setting<?>, Object>) serializer;
+    }
+
+    /**
+     * @return сериализатор по полю {@code "type"} или {@code null} для неизвестного типа
+     */
+    @SuppressWarnings("unchecked")
+    public static SettingSerializer<Setting<?>, Object> byType(String type) {
+        return (SettingSerializer<Setting<?>, Object>) BY_TYPE.get(type);
+    }
+
+    private static Object resolve(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            SettingSerializer<?, ?> serializer = BY_CLASS.get(current);
+            if (serializer != null) {
+                return serializer;
+            }
+        }
+        return UNSUPPORTED;
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter<V> {
+        void write(JsonWriter out, V value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ValueReader<V> {
+        V read(JsonReader in) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface BinaryWriter<V> {
+        void write(BinaryConfigCodec.Output out, V value);
+    }
+
+    @FunctionalInterface
+    private interface BinaryReader<V> {
+        V read(BinaryConfigCodec.Input in);
+    }
+
+    /**
+     * Сериализатор настройки, значение которой уже неизменяемое ({@code Boolean}, {@code Double}, {@code String}...).
+     * Чтение и запись идут через примитивные аксессоры настройки, упаковка остаётся только в снимке
+     */
+    private static <S extends Setting<V>, V> SettingSerializer<S, V> simple(String type, Function<? super S, ? extends V> getter, BiConsumer<? super S, ? super V> setter,
+            ValueWriter<? super V> writer, ValueReader<? extends V> reader,
+            BinaryWriter<? super V> binaryWriter, BinaryReader<? extends V> binaryReader) {
+        return new SettingSerializer<>() {
+            @Override
+            public String type() {
+                return type;
+            }
+
+            @Override
+            public V get(S setting) {
+                return getter.apply(setting);
+            }
+
+            @Override
+            public void set(S setting, V value) {
+                setter.accept(setting, value);
+            }
+
+            @Override
+            public void write(JsonWriter out, V value) throws IOException {
+                writer.write(out, value);
+            }
+
+            @Override
+            public V read(JsonReader in) throws IOException {
+                return reader.read(in);
+            }
+
+            @Override
+            public void writeBinary(BinaryConfigCodec.Output out, V value) {
+                binaryWriter.write(out, value);
+            }
+
+            @Override
+            public V readBinary(BinaryConfigCodec.Input in) {
+                return binaryReader.read(in);
+            }
+        };
+    }
+
+    private static final class ListSerializer implements SettingSerializer<ListSetting, Map<String, Boolean>> {
+        @Override
+        public String type() {
+            return "list";
+        }
+
+        @Override
+        public Map<String, Boolean> get(ListSetting setting) {
+            // ListSetting и так отдаёт неизменяемую копию
+            return setting.getValue();
+        }
+
+        @Override
+        public void set(ListSetting setting, Map<String, Boolean> value) {
+            // неизвестные опции из старых конфигов отбрасывает сам ListSetting
+            for (Map.Entry<String, Boolean> entry : value.entrySet()) {
+                setting.setValue(entry.getKey(), entry.getValue());
+            }
+        }
+
+        @Override
+        public void write(JsonWriter out, Map<String, Boolean> value) throws IOException {
+            out.beginObject();
+            for (Map.Entry<String, Boolean> entry : value.entrySet()) {
+                out.name(entry.getKey()).value(entry.getValue());
+            }
+            out.endObject();
+        }
+
+        @Override
+        public Map<String, Boolean> read(JsonReader in) throws IOException {
+            Map<String, Boolean> value = new LinkedHashMap<>();
+            in.beginObject();
+            while (in.hasNext()) {
+                value.put(in.nextName(), in.nextBoolean());
+            }
+            in.endObject();
+            return Collections.unmodifiableMap(value);
+        }
+
+        @Override
+        public void writeBinary(BinaryConfigCodec.Output out, Map<String, Boolean> value) {
+            out.writeVarInt(value.size());
+            for (Map.Entry<String, Boolean> entry : value.entrySet()) {
+                out.writeString(entry.getKey());
+                out.writeBoolean(entry.getValue());
+            }
+        }
+
+        @Override
+        public Map<String, Boolean> readBinary(BinaryConfigCodec.Input in) {
+            int size = in.readVarInt();
+            Map<String, Boolean> value = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                value.put(in.readString(), in.readBoolean());
+            }
+            return Collections.unmodifiableMap(value);
+        }
+    }
+}
@@ -5,7 +5,6 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import wtf.taksa.core.Core;
 import wtf.taksa.core.events.input.InputEvents;
 import wtf.taksa.usual.utils.minecraft.ContextWrapper;
 
@@ -17,7 +16,6 @@ public class MixinKeyboard implements ContextWrapper {
         boolean whitelist = mc.currentScreen == null;
         if (!whitelist) return;
         if (i == 2) i = 1;
-        InputEvents.Keyboard event = new InputEvents.Keyboard(key, i);
-        Core.EVENT_BUS.post(event);
+        InputEvents.Keyboard.post(key, i, modifiers);
     }
 }
\ No newline at end of file
@@ -14,8 +14,7 @@ public class MixinMouse implements ContextWrapper {
     @Inject(method = "onMouseButton", at = @At("HEAD"))
     public void onMouseButton(long window, int button, int action, int mods, CallbackInfo ci) {
         if (window == mc.getWindow().getHandle()) {
-            InputEvents.Mouse event = new InputEvents.Mouse(button, action);
-            event.post(mc.mouse.getX() / mc.getWindow().getScaleFactor(), mc.mouse.getY() / mc.getWindow().getScaleFactor());
+            InputEvents.Mouse.post(button, action, mods, mc.mouse.getX() / mc.getWindow().getScaleFactor(), mc.mouse.getY() / mc.getWindow().getScaleFactor());
         }
     }
 }
@@ -5,8 +5,8 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import wtf.taksa.core.Core;
 import wtf.taksa.core.events.minecraft.TickEvent;
+import wtf.taksa.usual.utils.animation.FrameClock;
 
 /**
  * Автор: NoCap
@@ -17,6 +17,11 @@ public class MixinMinecraftClient {
 
     @Inject(at = @At("HEAD"), method = "tick")
     private void onTick(CallbackInfo ci) {
-        Core.EVENT_BUS.post(new TickEvent());
+        TickEvent.post();
     }
-}
\ No newline at end of file
+
+    @Inject(at = @At("HEAD"), method = "render")
+    private void onRender(boolean tick, CallbackInfo ci) {
+        FrameClock.tick();
+    }
+}
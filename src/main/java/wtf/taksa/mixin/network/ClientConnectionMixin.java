@@ -7,7 +7,6 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import wtf.taksa.core.Core;
 import wtf.taksa.core.events.minecraft.PacketEvent;
 
 @Mixin(ClientConnection.class)
@@ -15,29 +14,21 @@ public class ClientConnectionMixin {
 
     @Inject(method = "handlePacket", at = @At("HEAD"), cancellable = true)
     private static <T extends PacketListener> void onHandlePacket(Packet<T> packet, PacketListener listener, CallbackInfo info) {
-        PacketEvent.Receive event = new PacketEvent.Receive(packet);
-        Core.EVENT_BUS.post(event);
-        if (event.isCancelled()) info.cancel();
+        if (PacketEvent.Receive.post(packet)) info.cancel();
     }
 
     @Inject(method = "handlePacket", at = @At("TAIL"), cancellable = true)
     private static <T extends PacketListener> void onHandlePacketPost(Packet<T> packet, PacketListener listener, CallbackInfo info) {
-        PacketEvent.ReceivePost event = new PacketEvent.ReceivePost(packet);
-        Core.EVENT_BUS.post(event);
-        if (event.isCancelled()) info.cancel();
+        if (PacketEvent.ReceivePost.post(packet)) info.cancel();
     }
 
     @Inject(method = "send(Lnet/minecraft/network/packet/Packet;)V", at = @At("HEAD"),cancellable = true)
     private void onSendPacketPre(Packet<?> packet, CallbackInfo info) {
-        PacketEvent.Send event = new PacketEvent.Send(packet);
-        Core.EVENT_BUS.post(event);
-        if (event.isCancelled()) info.cancel();
+        if (PacketEvent.Send.post(packet)) info.cancel();
     }
 
     @Inject(method = "send(Lnet/minecraft/network/packet/Packet;)V", at = @At("RETURN"),cancellable = true)
     private void onSendPacketPost(Packet<?> packet, CallbackInfo info) {
-        PacketEvent.SendPost event = new PacketEvent.SendPost(packet);
-        Core.EVENT_BUS.post(event);
-        if (event.isCancelled()) info.cancel();
+        if (PacketEvent.SendPost.post(packet)) info.cancel();
     }
 }
\ No newline at end of file
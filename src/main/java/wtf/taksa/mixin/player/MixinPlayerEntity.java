@@ -7,7 +7,6 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import wtf.taksa.core.Core;
 import wtf.taksa.core.events.player.PlayerActionEvents;
 import wtf.taksa.usual.utils.minecraft.ContextWrapper;
 
@@ -20,9 +19,7 @@ public class MixinPlayerEntity implements ContextWrapper {
         if ((Object) this != MinecraftClient.getInstance().player) {
             return;
         }
-        final PlayerActionEvents.Attack event = new PlayerActionEvents.Attack(target, false);
-        Core.EVENT_BUS.post(event);
-        if (event.isCancelled()) {
+        if (PlayerActionEvents.Attack.post(target, false)) {
             ci.cancel();
         }
     }
@@ -33,9 +30,7 @@ public class MixinPlayerEntity implements ContextWrapper {
         if ((Object) this != MinecraftClient.getInstance().player) {
             return;
         }
-        final PlayerActionEvents.Jump event = new PlayerActionEvents.Jump();
-        Core.EVENT_BUS.post(event);
-        if (event.isCancelled()) {
+        if (PlayerActionEvents.Jump.post()) {
             ci.cancel();
         }
     }
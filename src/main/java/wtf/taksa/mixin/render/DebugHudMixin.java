@@ -8,6 +8,8 @@ import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import wtf.taksa.module.ModuleTickScheduler;
+import wtf.taksa.module.ModuleTickStats;
 import wtf.taksa.usual.utils.render.RenderProfiler;
 
 import java.util.List;
@@ -31,5 +33,11 @@ public class DebugHudMixin {
                     .add(String.format("[Renderer bench] %s: %07d ns (%02.2f%% of frame)", allTickTime.name(), t,
                             t / currentFrameTime * 100f));
         }
+        for (ModuleTickStats stats : ModuleTickScheduler.INSTANCE.getStats()) {
+            long avg = stats.getAverageNanos();
+            cir.getReturnValue()
+                    .add(String.format("[Tick bench] %s: avg %07d ns, p95 <%d us, max %07d ns (%02.2f%% of tick)", stats.getModule().getName(),
+                            avg, stats.getPercentileMicros(0.95), stats.getMaxNanos(), avg * 100f / ModuleTickScheduler.TICK_NANOS));
+        }
     }
 }
\ No newline at end of file
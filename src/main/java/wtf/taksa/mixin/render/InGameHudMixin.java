@@ -8,9 +8,8 @@ import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import wtf.taksa.Taksa;
 import wtf.taksa.core.events.render.RenderEvents;
-import wtf.taksa.module.impl.visuals.NoRender;
+import wtf.taksa.module.Modules;
 import wtf.taksa.usual.utils.render.RenderProfiler;
 /**
  * @author Kenny1337
@@ -27,7 +26,7 @@ public class InGameHudMixin {
 
     @Inject(method = "renderScoreboardSidebar(Lnet/minecraft/client/gui/DrawContext;Lnet/minecraft/scoreboard/ScoreboardObjective;)V", at = @At(value = "HEAD"), cancellable = true)
     private void renderScoreboardSidebarHook(DrawContext context, ScoreboardObjective objective, CallbackInfo ci) {
-        if (Taksa.getInstance().getModuleManager().getModuleByName("NoRender").isEnabled() && ((NoRender) Taksa.getInstance().getModuleManager().getModuleByName("NoRender")).canRemoveScoreBoard()) {
+        if (Modules.NO_RENDER.isEnabled() && Modules.NO_RENDER.get().canRemoveScoreBoard()) {
             ci.cancel();
         }
     }
@@ -20,7 +20,7 @@ import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import wtf.taksa.Taksa;
+import wtf.taksa.module.Modules;
 
 // TODO: Нахуй сюда не лезьте я еблан
 
@@ -63,10 +63,11 @@ public class MixinItemEntityRenderer {
         float f1 = MathHelper.sin(((float)pEntity.getItemAge() + pPartialTicks) / 10.0F + pEntity.uniqueOffset) * 0.1F + 0.1F;
 
         float f2 = bakedmodel.getTransformation().getTransformation(ModelTransformationMode.GROUND).scale.y();
-        if (!Taksa.getInstance().getModuleManager().getModuleByName("ItemPhysic").isEnabled())  pMatrixStack.translate(0.0F, f1 + 0.25F * f2, 0.0F);
+        boolean physic = Modules.ITEM_PHYSIC.isEnabled();
+        if (!physic)  pMatrixStack.translate(0.0F, f1 + 0.25F * f2, 0.0F);
         float f3 = pEntity.getRotation(pPartialTicks);
-        if (!Taksa.getInstance().getModuleManager().getModuleByName("ItemPhysic").isEnabled())  pMatrixStack.multiply(RotationAxis.POSITIVE_Y.rotation(f3));
-        if (Taksa.getInstance().getModuleManager().getModuleByName("ItemPhysic").isEnabled()) pMatrixStack.multiply(RotationAxis.POSITIVE_X.rotationDegrees(pEntity.isOnGround() ? 90 : f3 * 300));
+        if (!physic)  pMatrixStack.multiply(RotationAxis.POSITIVE_Y.rotation(f3));
+        if (physic) pMatrixStack.multiply(RotationAxis.POSITIVE_X.rotationDegrees(pEntity.isOnGround() ? 90 : f3 * 300));
 
         float f4 = bakedmodel.getTransformation().ground.scale.x();
         float f5 = bakedmodel.getTransformation().ground.scale.y();
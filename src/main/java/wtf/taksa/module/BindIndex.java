@@ -0,0 +1,84 @@
+package wtf.taksa.module;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.lwjgl.glfw.GLFW;
+
+/**
+ * Индекс модулей по коду бинда: одно обращение к карте на событие ввода вместо обхода всех модулей.
+ * <p>Поддерживается инкрементально из {@link Module#setBind(int, int)}. Карта копируется при записи
+ * и публикуется volatile-записью, поэтому диспатч идёт без блокировок.</p>
+ * <p>На одну клавишу можно повесить несколько модулей. Модификаторы бинда должны быть зажаты при нажатии
+ * (лишние модификаторы не мешают), отпускание их не проверяет, чтобы режим удержания не залипал.</p>
+ */
+public final class BindIndex {
+    public static final int MODIFIER_MASK = GLFW.GLFW_MOD_SHIFT | GLFW.GLFW_MOD_CONTROL | GLFW.GLFW_MOD_ALT | GLFW.GLFW_MOD_SUPER;
+    private static final Module[] EMPTY = new Module[0];
+
+    private volatile Int2ObjectMap<Module[]> byKey = new Int2ObjectOpenHashMap<>();
+
+    synchronized void add(int key, Module module) {
+        if (key == GLFW.GLFW_KEY_UNKNOWN) return;
+        Module[] current = byKey.getOrDefault(key, EMPTY);
+        for (Module existing : current) {
+            if (existing == module) return;
+        }
+        Module[] next = new Module[current.length + 1];
+        System.arraycopy(current, 0, next, 0, current.length);
+        next[current.length] = module;
+
+        Int2ObjectOpenHashMap<Module[]> copy = new Int2ObjectOpenHashMap<>(byKey);
+        copy.put(key, next);
+        byKey = copy;
+    }
+
+    synchronized void remove(int key, Module module) {
+        Module[] current = byKey.get(key);
+        if (current == null) return;
+        int index = -1;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == module) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) return;
+
+        Int2ObjectOpenHashMap<Module[]> copy = new Int2ObjectOpenHashMap<>(byKey);
+        if (current.length == 1) {
+            copy.remove(key);
+        } else {
+            Module[] next = new Module[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            copy.put(key, next);
+        }
+        byKey = copy;
+    }
+
+    /**
+     * @return модули на этом бинде; массив общий, менять его нельзя
+     */
+    public Module[] get(int key) {
+        return byKey.getOrDefault(key, EMPTY);
+    }
+
+    /**
+     * Передаёт нажатие или отпускание всем модулям на бинде
+     *
+     * @param key       код клавиши, для мыши — {@code KeyUtils.getMouseButtonCode}
+     * @param modifiers зажатые модификаторы GLFW
+     */
+    public void dispatch(int key, int modifiers, boolean pressed) {
+        if (key == GLFW.GLFW_KEY_UNKNOWN) return;
+        Module[] modules = byKey.get(key);
+        if (modules == null) return;
+        int held = modifiers & MODIFIER_MASK;
+        for (Module module : modules) {
+            int required = module.getBindModifiers();
+            if (!pressed || (held & required) == required) {
+                ModuleBinding.handle(module, pressed);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package wtf.taksa.module;
 
 import wtf.taksa.core.Core;
+import wtf.taksa.core.events.module.ModuleEvents;
 import wtf.taksa.module.setting.Setting;
 
 import java.util.ArrayList;
@@ -12,26 +13,23 @@ import java.util.List;
  */
 public abstract class Module {
 
-    private final ModuleRegistry registry;
     private final String name;
     private final String description;
     private final Category category;
     private final List<Setting<?>> settings = new ArrayList<>();
+    private int settingsVersion;
 
     private int bind;
+    private int bindModifiers;
     private boolean enabled;
     private ModuleBinding binding = ModuleBinding.TOGGLE;
 
     public Module() {
-        if (!getClass().isAnnotationPresent(ModuleRegistry.class)) {
-            throw new IllegalStateException("Класс " + getClass().getSimpleName() + " должен иметь аннотацию @ModuleRegistry.");
-        }
-
-        this.registry = getClass().getAnnotation(ModuleRegistry.class);
-        this.name = registry.name();
-        this.description = registry.description();
-        this.category = registry.category();
-        this.bind = registry.bind();
+        ModuleDescriptor<?> descriptor = ModuleDescriptor.constructing(getClass());
+        this.name = descriptor.name();
+        this.description = descriptor.description();
+        this.category = descriptor.category();
+        this.bind = descriptor.bind();
         this.enabled = false;
     }
 
@@ -42,12 +40,26 @@ public abstract class Module {
     public void toggle() {
         this.enabled = !this.enabled;
         if (this.enabled) {
-            Core.EVENT_BUS.subscribe(this);
+            Core.subscribe(this);
             onEnable();
         } else {
-            Core.EVENT_BUS.unsubscribe(this);
+            Core.unsubscribe(this);
             onDisable();
         }
+        ModuleEvents.Changed.post(this, null);
+    }
+
+    /**
+     * Переключение без подписки на шину: её делает {@link ModuleHolder#setEnabled} сразу для пачки модулей
+     */
+    void switchState(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled) {
+            onEnable();
+        } else {
+            onDisable();
+        }
+        ModuleEvents.Changed.post(this, null);
     }
 
     public void setEnabled(boolean enabled) {
@@ -58,6 +70,7 @@ public abstract class Module {
         } else {
             onDisable();
         }
+        ModuleEvents.Changed.post(this, null);
     }
 
     public String getName() {
@@ -76,8 +89,24 @@ public abstract class Module {
         return bind;
     }
 
+    /**
+     * @return модификаторы GLFW, которые должны быть зажаты вместе с биндом
+     */
+    public int getBindModifiers() {
+        return bindModifiers;
+    }
+
     public void setBind(int bind) {
+        setBind(bind, bindModifiers);
+    }
+
+    public void setBind(int bind, int modifiers) {
+        BindIndex index = ModuleHolder.getInstance().getBindIndex();
+        index.remove(this.bind, this);
         this.bind = bind;
+        this.bindModifiers = modifiers & BindIndex.MODIFIER_MASK;
+        index.add(bind, this);
+        ModuleEvents.Changed.post(this, null);
     }
 
     public boolean isEnabled() {
@@ -90,19 +119,31 @@ public abstract class Module {
 
     public void setBinding(ModuleBinding binding) {
         this.binding = binding;
+        ModuleEvents.Changed.post(this, null);
     }
 
     public List<Setting<?>> getSettings() {
         return settings;
     }
 
+    /**
+     * Растёт при каждом изменении списка настроек, по нему GUI понимает, что закэшированную панель пора пересобрать
+     */
+    public int getSettingsVersion() {
+        return settingsVersion;
+    }
+
     public void addSetting(Setting<?> setting) {
+        setting.setOwner(this);
         settings.add(setting);
+        settingsVersion++;
     }
 
     protected void addSettings(Setting<?>... newSettings) {
         for (Setting<?> setting : newSettings) {
+            setting.setOwner(this);
             settings.add(setting);
         }
+        settingsVersion++;
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package wtf.taksa.module;
+
+import java.util.function.Supplier;
+
+/**
+ * Метаданные модуля из {@link ModuleRegistry} и способ его создать.
+ * <p>Дескрипторы всех модулей генерируются процессором аннотаций в {@code GeneratedModuleRegistry}
+ * с прямым вызовом конструктора. {@link #reflective(Class)} — запасной путь для классов, зарегистрированных вручную.</p>
+ */
+public record ModuleDescriptor<T extends Module>(Class<T> type, Supplier<T> factory, String name, String description,
+                                                 Category category, int bind) {
+
+    /**
+     * Дескриптор модуля, который сейчас создаётся через {@link #create()}; его читает конструктор {@link Module}
+     */
+    private static final ThreadLocal<ModuleDescriptor<?>> CONSTRUCTING = new ThreadLocal<>();
+
+    public T create() {
+        ModuleDescriptor<?> previous = CONSTRUCTING.get();
+        CONSTRUCTING.set(this);
+        try {
+            return factory.get();
+        } finally {
+            CONSTRUCTING.set(previous);
+        }
+    }
+
+    public static <T extends Module> ModuleDescriptor<T> reflective(Class<T> type) {
+        ModuleRegistry registry = type.getAnnotation(ModuleRegistry.class);
+        if (registry == null) {
+            throw new IllegalStateException("Класс " + type.getSimpleName() + " должен иметь аннотацию @ModuleRegistry.");
+        }
+        Supplier<T> factory = () -> {
+            try {
+                return type.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Не удалось создать модуль " + type.getSimpleName(), e);
+            }
+        };
+        return new ModuleDescriptor<>(type, factory, registry.name(), registry.description(), registry.category(), registry.bind());
+    }
+
+    /**
+     * @return дескриптор для создаваемого экземпляра: из {@link #create()}, либо прочитанный из аннотации
+     */
+    static ModuleDescriptor<?> constructing(Class<? extends Module> type) {
+        ModuleDescriptor<?> descriptor = CONSTRUCTING.get();
+        if (descriptor != null && descriptor.type == type) {
+            return descriptor;
+        }
+        return reflective(type);
+    }
+}
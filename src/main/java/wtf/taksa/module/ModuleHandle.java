@@ -0,0 +1,38 @@
+package wtf.taksa.module;
+
+/**
+ * Типизированная ссылка на модуль, которая один раз резолвится после {@code ModuleManager.init}.
+ * <p>Нужна горячим путям (миксинам рендера), чтобы не искать модуль по имени на каждый вызов.
+ * Хэндл не создаёт модуль: пока модуль не создан (или хэндл не резолвнут), {@link #get()} возвращает {@code null},
+ * а {@link #isEnabled()} — {@code false}.</p>
+ */
+public final class ModuleHandle<T extends Module> {
+    private final Class<T> type;
+    private ModuleSlot<T> slot;
+
+    ModuleHandle(Class<T> type) {
+        this.type = type;
+    }
+
+    void resolve(ModuleHolder holder) {
+        this.slot = holder.getSlot(type);
+    }
+
+    boolean isResolved() {
+        return slot != null;
+    }
+
+    public T get() {
+        ModuleSlot<T> current = slot;
+        return current == null ? null : current.getIfCreated();
+    }
+
+    public boolean isEnabled() {
+        T current = get();
+        return current != null && current.isEnabled();
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+}
@@ -1,8 +1,19 @@
 package wtf.taksa.module;
 
+import org.lwjgl.glfw.GLFW;
+import wtf.taksa.Taksa;
+import wtf.taksa.core.Core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * Автор: NoCap
@@ -12,53 +23,244 @@ public class ModuleHolder {
 
     private static final ModuleHolder INSTANCE = new ModuleHolder();
 
-    private final List<Module> modules = new CopyOnWriteArrayList<>();
+    /**
+     * {@code -Dtaksa.modules.eager=true} создаёт все модули при регистрации, как до ленивого создания,
+     * чтобы сравнить время старта и кучу
+     */
+    private static final boolean EAGER = Boolean.getBoolean("taksa.modules.eager");
+    /**
+     * {@code -Dtaksa.modules.measureHeap=true} пишет в лог, сколько кучи удержала регистрация.
+     * Замер делает {@link System#gc()} до и после, поэтому по умолчанию выключен
+     */
+    private static final boolean MEASURE_HEAP = Boolean.getBoolean("taksa.modules.measureHeap");
+
+    /**
+     * Индексы пересобираются целиком при регистрации и публикуются одной volatile-записью,
+     * поэтому чтение из миксинов идёт без блокировок и без копирования
+     */
+    private volatile Index index = new Index(new ArrayList<>());
+    private final ModuleSearchIndex searchIndex = new ModuleSearchIndex();
+    private final BindIndex bindIndex = new BindIndex();
+    private final List<Consumer<Module>> creationListeners = new CopyOnWriteArrayList<>();
+    private int created;
 
     private ModuleHolder() {}
 
-    public void register(Class<? extends Module>... moduleClasses) {
+    /**
+     * Регистрация по классам через рефлексию, для модулей вне сгенерированного реестра
+     */
+    @SafeVarargs
+    public final void register(Class<? extends Module>... moduleClasses) {
+        List<ModuleDescriptor<?>> descriptors = new ArrayList<>(moduleClasses.length);
         for (Class<? extends Module> clazz : moduleClasses) {
             try {
-                Module module = clazz.getDeclaredConstructor().newInstance();
-                modules.add(module);
-                System.out.println("Зарегистрирован модуль: " + module.getName());
-            } catch (Exception e) {
-                System.err.println("Не удалось зарегистрировать модуль " + clazz.getSimpleName() + ": " + e.getMessage());
-                e.printStackTrace();
+                descriptors.add(ModuleDescriptor.reflective(clazz));
+            } catch (IllegalStateException e) {
+                Taksa.LOGGER.error("Не удалось зарегистрировать модуль {}: {}", clazz.getSimpleName(), e.getMessage());
             }
         }
+        register(descriptors);
     }
 
-    public List<Module> getModules() {
-        return List.copyOf(modules);
+    /**
+     * Регистрирует модули без создания экземпляров. Сразу создаются только модули с биндом по умолчанию,
+     * иначе их нечем было бы включить
+     */
+    public void register(List<ModuleDescriptor<?>> descriptors) {
+        long heapBefore = MEASURE_HEAP ? usedHeap() : 0;
+        long start = System.nanoTime();
+        List<ModuleSlot<?>> eager = new ArrayList<>();
+        synchronized (this) {
+            List<ModuleSlot<?>> slots = new ArrayList<>(index.slots);
+            for (ModuleDescriptor<?> descriptor : descriptors) {
+                ModuleSlot<?> slot = new ModuleSlot<>(this, descriptor);
+                slots.add(slot);
+                if (EAGER || descriptor.bind() != GLFW.GLFW_KEY_UNKNOWN) eager.add(slot);
+            }
+            index = new Index(slots);
+        }
+        for (ModuleSlot<?> slot : eager) {
+            slot.get();
+        }
+        long micros = (System.nanoTime() - start) / 1000;
+        if (MEASURE_HEAP) {
+            Taksa.LOGGER.info("Зарегистрировано модулей: {} за {} мкс, создано: {}, удержано в куче: {} КБ",
+                    descriptors.size(), micros, created, (usedHeap() - heapBefore) / 1024);
+        } else {
+            Taksa.LOGGER.info("Зарегистрировано модулей: {} за {} мкс, создано: {}", descriptors.size(), micros, created);
+        }
     }
 
-    @SuppressWarnings("unchecked")
-    public <T extends Module> T getModule(Class<T> clazz) {
-        for (Module module : modules) {
-            if (clazz.isInstance(module)) {
-                return (T) module;
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    <T extends Module> T create(ModuleSlot<T> slot) {
+        T module;
+        synchronized (this) {
+            if (slot.module != null || slot.failed) return slot.module;
+            long start = System.nanoTime();
+            try {
+                module = slot.getDescriptor().create();
+            } catch (Exception e) {
+                slot.failed = true;
+                Taksa.LOGGER.error("Не удалось создать модуль {}", slot.getDescriptor().name(), e);
+                return null;
             }
+            searchIndex.add(module);
+            bindIndex.add(module.getBind(), module);
+            slot.module = module;
+            created++;
+            Taksa.LOGGER.debug("Создан модуль {} за {} мкс", module.getName(), (System.nanoTime() - start) / 1000);
+        }
+        for (Consumer<Module> listener : creationListeners) {
+            listener.accept(module);
         }
-        return null;
+        return module;
     }
 
-    public Module getModule(String name) {
+    /**
+     * Слушатель вызывается после создания каждого модуля, например чтобы применить к нему отложенный конфиг
+     */
+    public void addCreationListener(Consumer<Module> listener) {
+        creationListeners.add(listener);
+    }
+
+    /**
+     * Включает или выключает пачку модулей: сначала одна подписка/отписка на шине за всю пачку,
+     * затем {@code onEnable}/{@code onDisable} по порядку списка. Модули уже в нужном состоянии пропускаются
+     */
+    public void setEnabled(List<Module> modules, boolean enabled) {
+        List<Module> changed = new ArrayList<>(modules.size());
         for (Module module : modules) {
-            if (module.getName().equalsIgnoreCase(name)) {
-                return module;
+            if (module.isEnabled() != enabled) {
+                changed.add(module);
             }
         }
-        return null;
+        if (changed.isEmpty()) return;
+
+        if (enabled) {
+            Core.EVENT_BUS.subscribeAll(changed);
+        } else {
+            Core.EVENT_BUS.unsubscribeAll(changed);
+        }
+        for (Module module : changed) {
+            module.switchState(enabled);
+        }
+    }
+
+    /**
+     * @return неизменяемый список модулей, один и тот же экземпляр до следующей регистрации.
+     * Создаёт все ещё не созданные модули, для обхода без этого есть {@link #getSlots()}
+     */
+    public List<Module> getModules() {
+        Index current = index;
+        List<Module> modules = current.modules;
+        if (modules == null) {
+            modules = materialize(current.slots);
+            current.modules = modules;
+        }
+        return modules;
+    }
+
+    public List<ModuleSlot<?>> getSlots() {
+        return index.slots;
     }
 
+    public <T extends Module> T getModule(Class<T> clazz) {
+        ModuleSlot<T> slot = getSlot(clazz);
+        return slot == null ? null : slot.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Module> ModuleSlot<T> getSlot(Class<T> clazz) {
+        Index current = index;
+        ModuleSlot<?> slot = current.byClass.get(clazz);
+        if (slot != null) return (ModuleSlot<T>) slot;
+
+        // запрос по суперклассу или интерфейсу: ищем один раз по дескрипторам и запоминаем
+        Object found = current.byAssignable.computeIfAbsent(clazz, type -> {
+            for (ModuleSlot<?> candidate : current.slots) {
+                if (type.isAssignableFrom(candidate.getDescriptor().type())) return candidate;
+            }
+            return Index.MISSING;
+        });
+        return found == Index.MISSING ? null : (ModuleSlot<T>) found;
+    }
+
+    public Module getModule(String name) {
+        ModuleSlot<?> slot = getSlot(name);
+        return slot == null ? null : slot.get();
+    }
+
+    public ModuleSlot<?> getSlot(String name) {
+        if (name == null) return null;
+        return index.byName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return неизменяемый закэшированный список модулей категории, создаёт их при первом вызове
+     */
     public List<Module> getModules(Category category) {
-        return modules.stream()
-                .filter(module -> module.getCategory() == category)
-                .collect(Collectors.toList());
+        Index current = index;
+        List<Module> modules = current.byCategoryView.get(category);
+        if (modules == null) {
+            modules = materialize(current.byCategory.get(category));
+            current.byCategoryView.put(category, modules);
+        }
+        return modules;
+    }
+
+    public ModuleSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    public BindIndex getBindIndex() {
+        return bindIndex;
     }
 
     public static ModuleHolder getInstance() {
         return INSTANCE;
     }
-}
\ No newline at end of file
+
+    private static List<Module> materialize(List<ModuleSlot<?>> slots) {
+        List<Module> modules = new ArrayList<>(slots.size());
+        for (ModuleSlot<?> slot : slots) {
+            Module module = slot.get();
+            if (module != null) modules.add(module);
+        }
+        return Collections.unmodifiableList(modules);
+    }
+
+    private static final class Index {
+        /**
+         * Метка «не найдено» для кэша запросов по суперклассу, {@link ConcurrentHashMap} не хранит null
+         */
+        private static final Object MISSING = new Object();
+
+        private final List<ModuleSlot<?>> slots;
+        private final Map<String, ModuleSlot<?>> byName = new HashMap<>();
+        private final Map<Class<?>, ModuleSlot<?>> byClass = new HashMap<>();
+        private final Map<Class<?>, Object> byAssignable = new ConcurrentHashMap<>();
+        private final Map<Category, List<ModuleSlot<?>>> byCategory = new EnumMap<>(Category.class);
+        private final Map<Category, List<Module>> byCategoryView = new ConcurrentHashMap<>();
+        private volatile List<Module> modules;
+
+        private Index(List<ModuleSlot<?>> slots) {
+            this.slots = List.copyOf(slots);
+            for (Category category : Category.values()) {
+                byCategory.put(category, new ArrayList<>());
+            }
+            for (ModuleSlot<?> slot : this.slots) {
+                ModuleDescriptor<?> descriptor = slot.getDescriptor();
+                byName.putIfAbsent(descriptor.name().toLowerCase(Locale.ROOT), slot);
+                byClass.putIfAbsent(descriptor.type(), slot);
+                byCategory.get(descriptor.category()).add(slot);
+            }
+            byCategory.replaceAll((category, list) -> List.copyOf(list));
+        }
+    }
+}
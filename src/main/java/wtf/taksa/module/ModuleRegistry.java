@@ -22,4 +22,9 @@ public @interface ModuleRegistry {
     Category category();
 
     int bind() default GLFW.GLFW_KEY_UNKNOWN;
+
+    /**
+     * {@code false} — модуль не попадает в сгенерированный {@code GeneratedModuleRegistry} (например, пока не доделан)
+     */
+    boolean register() default true;
 }
\ No newline at end of file
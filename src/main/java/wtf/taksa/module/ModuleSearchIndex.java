@@ -0,0 +1,174 @@
+package wtf.taksa.module;
+
+import wtf.taksa.module.setting.Setting;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Поисковый индекс модулей по n-граммам (1–3 символа) названий, описаний и названий настроек.
+ * <p>Каждой n-грамме соответствует {@link BitSet} модулей, в которых она встречается. Запрос сужается
+ * пересечением битсетов, затем кандидаты проверяются подстрокой. Если новый запрос содержит предыдущий
+ * (обычный набор по символу), поиск идёт только по прошлому результату.</p>
+ * <p>Модуль попадает в индекс при создании в {@link ModuleHolder}, используется из рендер-потока.</p>
+ */
+public class ModuleSearchIndex {
+    private static final int MAX_GRAM = 3;
+
+    private final List<Module> modules = new ArrayList<>();
+    private final Map<Module, Integer> ids = new IdentityHashMap<>();
+    private final List<String[]> fields = new ArrayList<>();
+    private final List<Integer> versions = new ArrayList<>();
+    private final Map<Long, BitSet> grams = new HashMap<>();
+
+    private String lastQuery;
+    private BitSet lastResult;
+
+    public void add(Module module) {
+        if (ids.containsKey(module)) {
+            update(module);
+            return;
+        }
+        int id = modules.size();
+        modules.add(module);
+        ids.put(module, id);
+        String[] moduleFields = collectFields(module);
+        fields.add(moduleFields);
+        versions.add(module.getSettingsVersion());
+        index(id, moduleFields, true);
+        lastQuery = null;
+    }
+
+    /**
+     * Переиндексирует модуль, если у него поменялся список настроек
+     */
+    public void update(Module module) {
+        Integer id = ids.get(module);
+        if (id == null || versions.get(id) == module.getSettingsVersion()) return;
+        index(id, fields.get(id), false);
+        String[] moduleFields = collectFields(module);
+        fields.set(id, moduleFields);
+        versions.set(id, module.getSettingsVersion());
+        index(id, moduleFields, true);
+        lastQuery = null;
+    }
+
+    /**
+     * @return подходящие модули: сначала совпадение с началом названия, затем по названию, затем по описанию и настройкам
+     */
+    public List<Module> search(String query) {
+        String normalized = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        for (Module module : modules) {
+            update(module);
+        }
+
+        BitSet result = match(normalized);
+        lastQuery = normalized;
+        lastResult = result;
+
+        List<Module> prefix = new ArrayList<>();
+        List<Module> byName = new ArrayList<>();
+        List<Module> other = new ArrayList<>();
+        for (int id = result.nextSetBit(0); id >= 0; id = result.nextSetBit(id + 1)) {
+            String name = fields.get(id)[0];
+            if (name.startsWith(normalized)) {
+                prefix.add(modules.get(id));
+            } else if (name.contains(normalized)) {
+                byName.add(modules.get(id));
+            } else {
+                other.add(modules.get(id));
+            }
+        }
+        prefix.addAll(byName);
+        prefix.addAll(other);
+        return prefix;
+    }
+
+    public int size() {
+        return modules.size();
+    }
+
+    private BitSet match(String query) {
+        BitSet candidates;
+        if (lastQuery != null && query.contains(lastQuery)) {
+            candidates = (BitSet) lastResult.clone();
+        } else {
+            candidates = new BitSet(modules.size());
+            candidates.set(0, modules.size());
+        }
+        if (query.isEmpty() || candidates.isEmpty()) {
+            return candidates;
+        }
+
+        int n = Math.min(MAX_GRAM, query.length());
+        for (int i = 0; i + n <= query.length(); i++) {
+            BitSet posting = grams.get(key(query, i, n));
+            if (posting == null) {
+                candidates.clear();
+                return candidates;
+            }
+            candidates.and(posting);
+            if (candidates.isEmpty()) return candidates;
+        }
+
+        // n-граммы гарантируют точность только для запросов не длиннее MAX_GRAM
+        if (query.length() > MAX_GRAM) {
+            for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                if (!containsInAnyField(fields.get(id), query)) {
+                    candidates.clear(id);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void index(int id, String[] moduleFields, boolean add) {
+        for (String field : moduleFields) {
+            for (int n = 1; n <= MAX_GRAM; n++) {
+                for (int i = 0; i + n <= field.length(); i++) {
+                    long key = key(field, i, n);
+                    if (add) {
+                        grams.computeIfAbsent(key, k -> new BitSet()).set(id);
+                    } else {
+                        BitSet posting = grams.get(key);
+                        if (posting != null) posting.clear(id);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean containsInAnyField(String[] moduleFields, String query) {
+        for (String field : moduleFields) {
+            if (field.contains(query)) return true;
+        }
+        return false;
+    }
+
+    private static String[] collectFields(Module module) {
+        List<Setting<?>> settings = module.getSettings();
+        String[] result = new String[2 + settings.size()];
+        result[0] = module.getName().toLowerCase(Locale.ROOT);
+        result[1] = module.getDescription().toLowerCase(Locale.ROOT);
+        for (int i = 0; i < settings.size(); i++) {
+            result[2 + i] = settings.get(i).getName().toLowerCase(Locale.ROOT);
+        }
+        return result;
+    }
+
+    /**
+     * Упаковывает n-грамму в long: длина в старших битах, символы по 16 бит
+     */
+    private static long key(String text, int offset, int n) {
+        long key = n;
+        for (int i = 0; i < n; i++) {
+            key = (key << 16) | text.charAt(offset + i);
+        }
+        return key;
+    }
+}
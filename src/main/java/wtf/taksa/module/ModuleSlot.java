@@ -0,0 +1,42 @@
+package wtf.taksa.module;
+
+/**
+ * Зарегистрированный модуль, который создаётся при первом обращении.
+ * <p>До этого в памяти лежит только {@link ModuleDescriptor}: имя, категория, бинд по умолчанию.
+ * Экземпляр создаёт {@link ModuleHolder} — при включении, открытии GUI или применении конфига.</p>
+ */
+public final class ModuleSlot<T extends Module> {
+    private final ModuleHolder holder;
+    private final ModuleDescriptor<T> descriptor;
+    volatile T module;
+    volatile boolean failed;
+
+    ModuleSlot(ModuleHolder holder, ModuleDescriptor<T> descriptor) {
+        this.holder = holder;
+        this.descriptor = descriptor;
+    }
+
+    /**
+     * @return экземпляр модуля, создаётся при первом вызове; {@code null}, если конструктор модуля упал
+     */
+    public T get() {
+        T current = module;
+        if (current != null || failed) return current;
+        return holder.create(this);
+    }
+
+    /**
+     * @return экземпляр или {@code null}, если модуль ещё не создавался
+     */
+    public T getIfCreated() {
+        return module;
+    }
+
+    public boolean isCreated() {
+        return module != null;
+    }
+
+    public ModuleDescriptor<T> getDescriptor() {
+        return descriptor;
+    }
+}
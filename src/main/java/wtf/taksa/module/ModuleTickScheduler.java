@@ -0,0 +1,93 @@
+package wtf.taksa.module;
+
+import wtf.taksa.core.events.EventBus;
+import wtf.taksa.core.events.EventInvoker;
+import wtf.taksa.core.events.minecraft.TickEvent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Планировщик тиковых обработчиков модулей.
+ * <p>Ставит на {@link TickEvent} декоратор шины: каждый {@code onTick} модуля оборачивается при подписке
+ * в вызов с замером {@code nanoTime} и учётом {@link TickPolicy}. Поиск статистики и политики идёт
+ * один раз на подписку, на тике остаются счётчик пропуска и два {@code nanoTime}.</p>
+ * <p>Работает на главном потоке клиента, там же читается для отладочного HUD.</p>
+ */
+public final class ModuleTickScheduler {
+    public static final ModuleTickScheduler INSTANCE = new ModuleTickScheduler();
+
+    /**
+     * Сколько тиков подряд максимум пропускается из-за перерасхода бюджета
+     */
+    private static final int MAX_DEFER = 20;
+    public static final long TICK_NANOS = 50_000_000L;
+
+    private final Map<Module, ModuleTickStats> stats = new IdentityHashMap<>();
+
+    private ModuleTickScheduler() {
+    }
+
+    public void install(EventBus bus) {
+        bus.decorate(TickEvent.class, (target, invoker) ->
+                target instanceof Module module ? new ScheduledTick(module, invoker, statsOf(module)) : invoker);
+    }
+
+    /**
+     * @return статистика модулей, которые уже тикали, от самых дорогих к дешёвым
+     */
+    public synchronized List<ModuleTickStats> getStats() {
+        List<ModuleTickStats> result = new ArrayList<>(stats.size());
+        for (ModuleTickStats entry : stats.values()) {
+            if (entry.getSampleCount() > 0) result.add(entry);
+        }
+        result.sort(Comparator.comparingLong(ModuleTickStats::getAverageNanos).reversed());
+        return result;
+    }
+
+    private synchronized ModuleTickStats statsOf(Module module) {
+        return stats.computeIfAbsent(module, ModuleTickStats::new);
+    }
+
+    private static final class ScheduledTick implements EventInvoker {
+        private final EventInvoker delegate;
+        private final ModuleTickStats stats;
+        private final int interval;
+        private final long budgetNanos;
+        private int wait;
+
+        private ScheduledTick(Module module, EventInvoker delegate, ModuleTickStats stats) {
+            TickPolicy policy = module.getClass().getAnnotation(TickPolicy.class);
+            this.delegate = delegate;
+            this.stats = stats;
+            this.interval = policy == null ? 1 : Math.max(1, policy.interval());
+            this.budgetNanos = policy == null ? 0 : policy.budgetMicros() * 1000L;
+            // разносим модули с одинаковым интервалом по разным тикам
+            this.wait = Math.floorMod(System.identityHashCode(module), interval);
+        }
+
+        @Override
+        public void invoke(Object target, Object event) {
+            if (wait > 0) {
+                wait--;
+                stats.skip();
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                delegate.invoke(target, event);
+            } finally {
+                long cost = System.nanoTime() - start;
+                stats.record(cost);
+                int delay = interval - 1;
+                if (budgetNanos > 0 && cost > budgetNanos) {
+                    delay = Math.max(delay, (int) Math.min(MAX_DEFER, cost / budgetNanos));
+                }
+                wait = delay;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package wtf.taksa.module;
+
+/**
+ * Скользящая статистика стоимости тиков одного модуля за последние {@link #WINDOW} вызовов.
+ * <p>Кроме кольца самих замеров держится гистограмма по степеням двойки в микросекундах,
+ * она обновляется вместе с кольцом, так что перцентиль считается без сортировки.</p>
+ */
+public final class ModuleTickStats {
+    public static final int WINDOW = 128;
+    private static final int BUCKETS = 24;
+
+    private final Module module;
+    private final long[] samples = new long[WINDOW];
+    private final int[] histogram = new int[BUCKETS];
+    private int cursor;
+    private int count;
+    private long total;
+    private long skipped;
+
+    ModuleTickStats(Module module) {
+        this.module = module;
+    }
+
+    void record(long nanos) {
+        if (count == WINDOW) {
+            long evicted = samples[cursor];
+            total -= evicted;
+            histogram[bucket(evicted)]--;
+        } else {
+            count++;
+        }
+        samples[cursor] = nanos;
+        total += nanos;
+        histogram[bucket(nanos)]++;
+        cursor = (cursor + 1) % WINDOW;
+    }
+
+    void skip() {
+        skipped++;
+    }
+
+    public Module getModule() {
+        return module;
+    }
+
+    public long getAverageNanos() {
+        return count == 0 ? 0 : total / count;
+    }
+
+    public long getMaxNanos() {
+        long max = 0;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, samples[i]);
+        }
+        return max;
+    }
+
+    /**
+     * @return верхняя граница корзины гистограммы, в которую попадает перцентиль, в микросекундах
+     */
+    public long getPercentileMicros(double percentile) {
+        if (count == 0) return 0;
+        int threshold = (int) Math.ceil(count * percentile);
+        int seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram[i];
+            if (seen >= threshold) return 1L << i;
+        }
+        return 1L << (BUCKETS - 1);
+    }
+
+    public int getSampleCount() {
+        return count;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Корзина i хранит замеры меньше 2^i микросекунд
+     */
+    private static int bucket(long nanos) {
+        long micros = nanos / 1000;
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+}
@@ -0,0 +1,37 @@
+package wtf.taksa.module;
+
+import wtf.taksa.Taksa;
+import wtf.taksa.module.impl.visuals.ItemPhysic;
+import wtf.taksa.module.impl.visuals.NoRender;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Хэндлы модулей, к которым обращаются миксины.
+ * <p>Резолвятся в {@link #resolve(ModuleHolder)} сразу после регистрации модулей, дальше чтение — одно поле.</p>
+ */
+public final class Modules {
+    private static final List<ModuleHandle<?>> HANDLES = new ArrayList<>();
+
+    public static final ModuleHandle<ItemPhysic> ITEM_PHYSIC = handle(ItemPhysic.class);
+    public static final ModuleHandle<NoRender> NO_RENDER = handle(NoRender.class);
+
+    private Modules() {
+    }
+
+    private static <T extends Module> ModuleHandle<T> handle(Class<T> type) {
+        ModuleHandle<T> handle = new ModuleHandle<>(type);
+        HANDLES.add(handle);
+        return handle;
+    }
+
+    public static void resolve(ModuleHolder holder) {
+        for (ModuleHandle<?> handle : HANDLES) {
+            handle.resolve(holder);
+            if (!handle.isResolved()) {
+                Taksa.LOGGER.warn("Модуль для хэндла не зарегистрирован: {}", handle.getType().getSimpleName());
+            }
+        }
+    }
+}
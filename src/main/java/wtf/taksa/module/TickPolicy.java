@@ -0,0 +1,25 @@
+package wtf.taksa.module;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Как часто {@link ModuleTickScheduler} вызывает тиковые обработчики модуля.
+ * Без аннотации модуль тикает каждый тик без ограничений.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface TickPolicy {
+    /**
+     * Вызывать раз в столько тиков. Модули с одинаковым интервалом разнесены по разным тикам
+     */
+    int interval() default 1;
+
+    /**
+     * Бюджет одного вызова в микросекундах, 0 — без бюджета. Если вызов его превысил,
+     * следующие тики пропускаются пропорционально перерасходу
+     */
+    int budgetMicros() default 0;
+}
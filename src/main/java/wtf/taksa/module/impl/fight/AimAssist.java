@@ -1,6 +1,6 @@
 package wtf.taksa.module.impl.fight;
 
-import meteordevelopment.orbit.EventHandler;
+import wtf.taksa.core.events.EventHandler;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.mob.HostileEntity;
@@ -35,19 +35,43 @@ public class AimAssist extends Module {
 
     private final ModeSetting rotationMode = new ModeSetting("Режим", "Sigma", "Linear", "Sigma");
     private final ListSetting targets = new ListSetting("Цели", "Players", "Mobs");
+    private final int players = targets.indexOf("Players");
+    private final int mobs = targets.indexOf("Mobs");
+
+    /**
+     * Производные от настроек значения, пересчитываются слушателями только при изменении
+     */
+    private double rangeSq;
+    private double halfFov;
+    private float stepFactor;
 
     public AimAssist() {
         targets.setValue("Players", true);
         targets.setValue("Mobs", false);
 
         addSettings(aimSpeed, range, fov, rotationMode, onlyOnClick, targets);
+
+        range.addListener(value -> updateDerived());
+        fov.addListener(value -> updateDerived());
+        aimSpeed.addListener(value -> updateDerived());
+        rotationMode.addListener(value -> updateDerived());
+        updateDerived();
+    }
+
+    private void updateDerived() {
+        rangeSq = range.getDouble() * range.getDouble();
+        halfFov = fov.getDouble() / 2.0;
+        boolean sigma = rotationMode.getValue().equals("Sigma");
+        stepFactor = !sigma
+                ? (float) (aimSpeed.getDouble() * 0.02) * 1.8f
+                : 1.0f / Math.max(1.0f, (float) (25.0f - aimSpeed.getDouble()));
     }
 
     @EventHandler
     public void onTick(TickEvent event) {
         if (nullcheck()) return;
 
-        if (onlyOnClick.getValue() && !mc.options.attackKey.isPressed()) {
+        if (onlyOnClick.getBoolean() && !mc.options.attackKey.isPressed()) {
             return;
         }
 
@@ -70,14 +94,14 @@ public class AimAssist extends Module {
     private boolean isValidTarget(LivingEntity entity) {
         if (entity == mc.player) return false;
         if (entity.isDead()) return false;
-        if (mc.player.distanceTo(entity) > range.getValue()) return false;
-        if (getAngleToEntity(entity) > fov.getValue() / 2.0) return false;
+        if (mc.player.squaredDistanceTo(entity) > rangeSq) return false;
+        if (getAngleToEntity(entity) > halfFov) return false;
 
         if (entity instanceof PlayerEntity) {
-            if (!targets.isToggled("Players")) return false;
+            if (!targets.isToggled(players)) return false;
         }
         else if (entity instanceof HostileEntity) {
-            if (!targets.isToggled("Mobs")) return false;
+            if (!targets.isToggled(mobs)) return false;
         }
         else {
             return false;
@@ -95,20 +119,8 @@ public class AimAssist extends Module {
         float currentYaw = mc.player.getYaw();
         float yawDifference = MathHelper.wrapDegrees(targetYaw - currentYaw);
 
-        float stepYaw;
-
-        switch (rotationMode.getValue()) {
-            case "Sigma":
-                float sigmaSpeed = (float) (25.0f - aimSpeed.getValue());
-                stepYaw = yawDifference / Math.max(1.0f, sigmaSpeed);
-                break;
-
-            case "Linear":
-            default:
-                float linearSpeed = (float) (aimSpeed.getValue() * 0.02) * 1.8f;
-                stepYaw = yawDifference * linearSpeed;
-                break;
-        }
+        // Sigma делит разницу на (25 - скорость), Linear умножает на скорость; оба множителя в stepFactor
+        float stepYaw = yawDifference * stepFactor;
 
         mc.player.setYaw(currentYaw + stepYaw);
 
@@ -1,6 +1,6 @@
 package wtf.taksa.module.impl.fight;
 
-import meteordevelopment.orbit.EventHandler;
+import wtf.taksa.core.events.EventHandler;
 import net.minecraft.item.AirBlockItem;
 import net.minecraft.item.Items;
 import net.minecraft.screen.slot.SlotActionType;
@@ -33,13 +33,13 @@ public class AutoTotem extends Module {
             if (slot >= 0) {
                 if (!totemInHand) {
                     swapItem(slot);
-                    if (handNotNull && swapBack.getValue()) {
+                    if (handNotNull && swapBack.getBoolean()) {
                         if (swapBackSlot == -1) swapBackSlot = slot;
                     }
                 }
             }
         } else if (swapBackSlot >= 0) {
-            if (handNotNull && swapBack.getValue()) {
+            if (handNotNull && swapBack.getBoolean()) {
                 swapItem(swapBackSlot);
             }
             swapBackSlot = -1;
@@ -51,7 +51,7 @@ public class AutoTotem extends Module {
     private boolean condition() {
         float health = mc.player.getHealth();
 
-        if (this.health.getValue().floatValue() >= health) {
+        if ((float) this.health.getDouble() >= health) {
             return true;
         }
 
@@ -1,6 +1,6 @@
 package wtf.taksa.module.impl.fight;
 
-import meteordevelopment.orbit.EventHandler;
+import wtf.taksa.core.events.EventHandler;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.network.packet.c2s.play.PlayerInteractItemC2SPacket;
@@ -1,6 +1,6 @@
 package wtf.taksa.module.impl.fight;
 
-import meteordevelopment.orbit.EventHandler;
+import wtf.taksa.core.events.EventHandler;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -43,7 +43,7 @@ public class TriggerBot extends Module {
                 return;
             }
 
-            if (playerOnly.getValue() && !(target instanceof PlayerEntity)) {
+            if (playerOnly.getBoolean() && !(target instanceof PlayerEntity)) {
                 return;
             }
 
@@ -1,6 +1,6 @@
 package wtf.taksa.module.impl.movement;
 
-import meteordevelopment.orbit.EventHandler;
+import wtf.taksa.core.events.EventHandler;
 import wtf.taksa.core.events.minecraft.TickEvent;
 import wtf.taksa.module.Category;
 import wtf.taksa.module.Module;
@@ -32,14 +32,14 @@ public class Strafe extends Module {
         if (nullcheck()) return;
 
         if (!isMoving()) {
-            if (instantStop.getValue()) {
+            if (instantStop.getBoolean()) {
                 stopImmediately();
             }
             return;
         }
 
         float yaw = getMovementDirection();
-        float currentSpeed = speed.getValue().floatValue();
+        float currentSpeed = (float) speed.getDouble();
 
         mc.player.setVelocity(
                 -Math.sin(yaw) * currentSpeed,
@@ -1,15 +1,17 @@
 package wtf.taksa.module.impl.player;
 
-import meteordevelopment.orbit.EventHandler;
+import wtf.taksa.core.events.EventHandler;
 import net.minecraft.client.gui.screen.DeathScreen;
 import wtf.taksa.core.events.minecraft.TickEvent;
 import wtf.taksa.module.Category;
 import wtf.taksa.module.Module;
 import wtf.taksa.module.ModuleRegistry;
+import wtf.taksa.module.TickPolicy;
 
 import static wtf.taksa.usual.utils.minecraft.ContextWrapper.mc;
 
 @ModuleRegistry(name = "AutoRespawn", category = Category.PLAYER)
+@TickPolicy(interval = 5)
 public class AutoRespawn extends Module {
 
     @EventHandler
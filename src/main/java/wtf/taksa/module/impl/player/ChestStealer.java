@@ -1,6 +1,6 @@
 package wtf.taksa.module.impl.player;
 
-import meteordevelopment.orbit.EventHandler;
+import wtf.taksa.core.events.EventHandler;
 import net.minecraft.screen.GenericContainerScreenHandler;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.screen.slot.SlotActionType;
@@ -27,7 +27,7 @@ public class ChestStealer extends Module {
         if (mc.player.currentScreenHandler instanceof GenericContainerScreenHandler chest) {
             for (int i = 0; i < chest.getInventory().size(); i++) {
                 Slot slot = chest.getSlot(i);
-                if (slot.hasStack() && timer.every(delay.getValue().longValue()) && !(mc.currentScreen.getTitle().getString().contains("Аукцион"))) {
+                if (slot.hasStack() && timer.every((long) delay.getDouble()) && !(mc.currentScreen.getTitle().getString().contains("Аукцион"))) {
                     mc.interactionManager.clickSlot(mc.player.currentScreenHandler.syncId, i, 0, SlotActionType.QUICK_MOVE, mc.player);
                     timer.reset();
                 }
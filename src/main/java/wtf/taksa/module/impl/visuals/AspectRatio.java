@@ -8,7 +8,7 @@ import wtf.taksa.module.setting.DoubleSetting;
  * @author Kenny1337
  * @since 02.07.2025
  */
-@ModuleRegistry(name = "AspectRatio", category = Category.VISUALS, description = "Изменяет матрицу экрана")
+@ModuleRegistry(name = "AspectRatio", category = Category.VISUALS, description = "Изменяет матрицу экрана", register = false)
 public class AspectRatio extends Module {
     public DoubleSetting алерадиодада = new DoubleSetting("Радио", 1.78f, 0.1f, 5f);
 
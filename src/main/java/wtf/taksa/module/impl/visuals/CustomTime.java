@@ -1,6 +1,6 @@
 package wtf.taksa.module.impl.visuals;
 
-import meteordevelopment.orbit.EventHandler;
+import wtf.taksa.core.events.EventHandler;
 import net.minecraft.network.packet.s2c.play.WorldTimeUpdateS2CPacket;
 import wtf.taksa.core.events.minecraft.PacketEvent;
 import wtf.taksa.core.events.minecraft.TickEvent;
@@ -25,6 +25,6 @@ public class CustomTime extends Module {
     }
     @EventHandler
     public void onTick(TickEvent e) {
-        if (mc.world != null) mc.world.setTimeOfDay(time.getValue().intValue() * 1000);
+        if (mc.world != null) mc.world.setTimeOfDay((int) time.getDouble() * 1000);
     }
 }
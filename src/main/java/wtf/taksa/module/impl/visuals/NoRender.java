@@ -11,6 +11,9 @@ import wtf.taksa.module.setting.ListSetting;
 @Getter
 public class NoRender extends Module {
     private final ListSetting noRender = new ListSetting("Убирать", "Таблицу", "Огонь", "Тряску камеры");
+    private final int scoreBoard = noRender.indexOf("Таблицу");
+    private final int fireOverlay = noRender.indexOf("Огонь");
+    private final int hurtCam = noRender.indexOf("Тряску камеры");
 
     public NoRender() {
         noRender.setValue("Таблицу", true);
@@ -20,14 +23,14 @@ public class NoRender extends Module {
     }
 
     public boolean canRemoveScoreBoard() {
-        return noRender.isToggled("Таблицу");
+        return noRender.isToggled(scoreBoard);
     }
 
     public boolean canRemoveFireOverlay() {
-        return noRender.isToggled("Огонь");
+        return noRender.isToggled(fireOverlay);
     }
 
     public boolean canRemoveHurtCam() {
-        return noRender.isToggled("Тряску камеры");
+        return noRender.isToggled(hurtCam);
     }
 }
\ No newline at end of file
@@ -5,7 +5,33 @@ package wtf.taksa.module.setting;
  * Дата создания: 04.07.2025
  */
 public class BindSetting extends Setting<Integer> {
+    private int value;
+
     public BindSetting(String name, Integer value) {
-        super(name, value);
+        super(name);
+        this.value = value;
+    }
+
+    /**
+     * Код клавиши без упаковки
+     */
+    public int getInt() {
+        return value;
+    }
+
+    public void setInt(int value) {
+        if (this.value == value) return;
+        this.value = value;
+        changed();
+    }
+
+    @Override
+    public Integer getValue() {
+        return value;
+    }
+
+    @Override
+    public void setValue(Integer value) {
+        setInt(value);
     }
-}
\ No newline at end of file
+}
@@ -5,7 +5,33 @@ package wtf.taksa.module.setting;
  * Дата создания: 30.06.2025
  */
 public class BooleanSetting extends Setting<Boolean> {
+    private boolean value;
+
     public BooleanSetting(String name, boolean defaultValue) {
-        super(name, defaultValue);
+        super(name);
+        this.value = defaultValue;
+    }
+
+    /**
+     * Значение без упаковки, для горячих чтений
+     */
+    public boolean getBoolean() {
+        return value;
+    }
+
+    public void setBoolean(boolean value) {
+        if (this.value == value) return;
+        this.value = value;
+        changed();
+    }
+
+    @Override
+    public Boolean getValue() {
+        return value;
+    }
+
+    @Override
+    public void setValue(Boolean value) {
+        setBoolean(value);
     }
-}
\ No newline at end of file
+}
@@ -9,11 +9,13 @@ import net.minecraft.util.math.MathHelper;
 public class DoubleSetting extends Setting<Double> {
     private final double min;
     private final double max;
+    private double value;
 
     public DoubleSetting(String name, double defaultValue, double min, double max) {
-        super(name, defaultValue);
+        super(name);
         this.min = min;
         this.max = max;
+        this.value = defaultValue;
     }
 
     public double getMin() {
@@ -24,8 +26,28 @@ public class DoubleSetting extends Setting<Double> {
         return max;
     }
 
+    /**
+     * Значение без упаковки, для горячих чтений
+     */
+    public double getDouble() {
+        return value;
+    }
+
+    public void setDouble(double value) {
+        double clamped = MathHelper.clamp(value, this.min, this.max);
+        // сравнение по битам: NaN равен самому себе, а 0.0 и -0.0 различаются, как в Double.equals
+        if (Double.doubleToLongBits(clamped) == Double.doubleToLongBits(this.value)) return;
+        this.value = clamped;
+        changed();
+    }
+
+    @Override
+    public Double getValue() {
+        return value;
+    }
+
     @Override
     public void setValue(Double value) {
-        super.setValue(MathHelper.clamp(value, this.min, this.max));
+        setDouble(value);
     }
-}
\ No newline at end of file
+}
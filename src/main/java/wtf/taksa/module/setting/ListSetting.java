@@ -1,49 +1,115 @@
 package wtf.taksa.module.setting;
 
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Автор: NoCap
  * Дата создания: 02.07.2025
  */
+
+/**
+ * Набор флажков. Состояние хранится битами по индексу опции, так что горячие проверки через
+ * {@link #isToggled(int)} идут без хэширования строк и упаковки; {@link #getValue()} собирает карту по требованию.
+ */
 public class ListSetting extends Setting<Map<String, Boolean>> {
-    
+    private final String[] options;
+    private final List<String> optionList;
+    private final BitSet toggled;
+
     public ListSetting(String name, String... options) {
-        super(name, new LinkedHashMap<>());
-        for (String option : options) {
-            getValue().put(option, false);
-        }
+        super(name);
+        this.options = options.clone();
+        this.optionList = List.of(this.options);
+        this.toggled = new BitSet(options.length);
+    }
+
+    public List<String> getOptions() {
+        return optionList;
     }
 
     public boolean isToggled(String option) {
-        return getValue().getOrDefault(option, false);
+        int index = indexOf(option);
+        return index >= 0 && toggled.get(index);
+    }
+
+    /**
+     * @param index индекс из {@link #indexOf(String)}
+     */
+    public boolean isToggled(int index) {
+        return toggled.get(index);
+    }
+
+    /**
+     * @return индекс опции или -1, если такой опции нет
+     */
+    public int indexOf(String option) {
+        for (int i = 0; i < options.length; i++) {
+            if (options[i].equals(option)) return i;
+        }
+        return -1;
     }
-    
+
     public void toggle(String option) {
-        if (getValue().containsKey(option)) {
-            setValue(option, !isToggled(option));
+        int index = indexOf(option);
+        if (index >= 0) {
+            setToggled(index, !toggled.get(index));
         }
     }
 
     public void setValue(String option, boolean toggled) {
-        if (getValue().containsKey(option)) {
-            getValue().put(option, toggled);
+        int index = indexOf(option);
+        if (index >= 0) {
+            setToggled(index, toggled);
         }
     }
-    
+
+    public void setToggled(int index, boolean value) {
+        if (toggled.get(index) == value) return;
+        toggled.set(index, value);
+        changed();
+    }
+
+    /**
+     * @return копия состояния в порядке опций
+     */
+    @Override
+    public Map<String, Boolean> getValue() {
+        Map<String, Boolean> value = new LinkedHashMap<>();
+        for (int i = 0; i < options.length; i++) {
+            value.put(options[i], toggled.get(i));
+        }
+        return Collections.unmodifiableMap(value);
+    }
+
+    /**
+     * Выставляет все опции разом: отсутствующие в карте выключаются, неизвестные игнорируются
+     */
+    @Override
+    public void setValue(Map<String, Boolean> value) {
+        BitSet updated = new BitSet(options.length);
+        for (int i = 0; i < options.length; i++) {
+            updated.set(i, value.getOrDefault(options[i], false));
+        }
+        if (updated.equals(toggled)) return;
+        toggled.clear();
+        toggled.or(updated);
+        changed();
+    }
+
     public String getSummary() {
-        long count = getValue().values().stream().filter(Boolean::booleanValue).count();
+        int count = toggled.cardinality();
         if (count == 0) return "None";
         if (count > 2) return count + " selected";
         
         StringBuilder summary = new StringBuilder();
-        for(Map.Entry<String, Boolean> entry : getValue().entrySet()) {
-            if (entry.getValue()) {
-                if (!summary.isEmpty()) summary.append(", ");
-                summary.append(entry.getKey());
-            }
+        for (int i = toggled.nextSetBit(0); i >= 0; i = toggled.nextSetBit(i + 1)) {
+            if (!summary.isEmpty()) summary.append(", ");
+            summary.append(options[i]);
         }
         return summary.toString();
     }
-}
\ No newline at end of file
+}
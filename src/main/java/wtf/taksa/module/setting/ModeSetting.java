@@ -9,11 +9,25 @@ import java.util.List;
  */
 public class ModeSetting extends Setting<String> {
     private final List<String> modes;
+    private String value;
     
     public ModeSetting(String name, String defaultMode, String... modes) {
-        super(name, defaultMode);
+        super(name);
+        this.value = defaultMode;
         this.modes = Arrays.asList(modes);
     }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public void setValue(String value) {
+        if (this.value.equals(value)) return;
+        this.value = value;
+        changed();
+    }
     
     public List<String> getModes() {
         return modes;
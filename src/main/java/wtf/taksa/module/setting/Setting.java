@@ -1,27 +1,89 @@
 package wtf.taksa.module.setting;
 
+import wtf.taksa.core.events.module.ModuleEvents;
+import wtf.taksa.module.Module;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Автор: NoCap
  * Дата создания: 30.06.2025
  */
+
+/**
+ * Базовая настройка модуля. Хранение значения — дело наследника, здесь общий механизм изменений:
+ * счётчик {@link #getVersion()}, слушатели и {@link ModuleEvents.Changed} владельцу.
+ * Запись того же значения изменением не считается.
+ */
 public abstract class Setting<T> {
     private final String name;
-    private T value;
+    private Module owner;
+    private int version;
+    private List<Consumer<? super T>> listeners = List.of();
 
-    public Setting(String name, T defaultValue) {
+    public Setting(String name) {
         this.name = name;
-        this.value = defaultValue;
     }
 
     public String getName() {
         return name;
     }
 
-    public T getValue() {
-        return value;
+    public abstract T getValue();
+
+    public abstract void setValue(T value);
+
+    /**
+     * Растёт при каждом изменении значения: по нему удобно сверять закэшированные производные значения
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Слушатель вызывается синхронно с новым значением на том же потоке, где оно изменилось
+     */
+    public void addListener(Consumer<? super T> listener) {
+        List<Consumer<? super T>> updated = new ArrayList<>(listeners);
+        updated.add(listener);
+        listeners = List.copyOf(updated);
+    }
+
+    public void removeListener(Consumer<? super T> listener) {
+        List<Consumer<? super T>> updated = new ArrayList<>(listeners);
+        if (updated.remove(listener)) {
+            listeners = List.copyOf(updated);
+        }
+    }
+
+    /**
+     * Привязывает настройку к модулю, вызывается из {@link Module#addSetting}
+     */
+    public void setOwner(Module owner) {
+        this.owner = owner;
+    }
+
+    public Module getOwner() {
+        return owner;
     }
 
-    public void setValue(T value) {
-        this.value = value;
+    /**
+     * Сообщает об изменении значения. Событие модулю уходит только после привязки к нему,
+     * так что значения по умолчанию из конструктора модуля его не шлют
+     */
+    protected void changed() {
+        version++;
+        List<Consumer<? super T>> current = listeners;
+        if (!current.isEmpty()) {
+            T value = getValue();
+            for (Consumer<? super T> listener : current) {
+                listener.accept(value);
+            }
+        }
+        if (owner != null) {
+            ModuleEvents.Changed.post(owner, this);
+        }
     }
-}
\ No newline at end of file
+}
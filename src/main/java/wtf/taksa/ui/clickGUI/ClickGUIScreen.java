@@ -1,25 +1,37 @@
 package wtf.taksa.ui.clickGUI;
 
+import com.mojang.blaze3d.platform.GlStateManager;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gl.Framebuffer;
+import net.minecraft.client.gl.SimpleFramebuffer;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.text.Text;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.opengl.GL30C;
 import wtf.taksa.module.Category;
 import wtf.taksa.module.Module;
-import wtf.taksa.module.ModuleBinding;
 import wtf.taksa.module.ModuleHolder;
 import wtf.taksa.render.builder.RectBuilder;
 import wtf.taksa.render.font.FontManager;
 import wtf.taksa.render.font.FontRenderer;
+import wtf.taksa.ui.clickGUI.components.impl.ModuleComponent;
+import wtf.taksa.ui.clickGUI.components.impl.SearchFieldComponent;
 import wtf.taksa.ui.clickGUI.panel.CategoryPanel;
 import wtf.taksa.ui.theme.Theme;
+import wtf.taksa.usual.utils.animation.FrameClock;
 import wtf.taksa.usual.utils.color.ColorUtils;
 import wtf.taksa.usual.utils.math.Radius;
 import wtf.taksa.usual.utils.minecraft.KeyUtils;
+import wtf.taksa.usual.utils.render.DirtyRegionTracker;
 import wtf.taksa.usual.utils.render.RendererUtils;
 
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Автор: NoCap
@@ -27,11 +39,23 @@ import java.util.List;
  */
 public class ClickGUIScreen extends Screen {
     private static final int pX = 20, pY = 20, pW = 100, pH = 20, pSpacing = 4;
+    /**
+     * Раз в столько мс кадр перерисовывается целиком, чтобы подхватить изменения не от ввода (например, модуль выключился сам)
+     */
+    private static final long FULL_REDRAW_INTERVAL = 500;
 
     private final List<CategoryPanel> categoryPanels = new ArrayList<>();
     private CategoryPanel activeCategoryPanel;
+    private SearchFieldComponent searchField;
+    private String searchQuery = "";
     private FontRenderer font;
 
+    private final DirtyRegionTracker dirtyRegions = new DirtyRegionTracker();
+    private SimpleFramebuffer frameCache;
+    private Object lastHoverTarget;
+    private int lastMouseX = -1, lastMouseY = -1;
+    private long lastFullRedraw;
+
     public ClickGUIScreen() {
         super(Text.literal("ClickGUI"));
     }
@@ -39,6 +63,7 @@ public class ClickGUIScreen extends Screen {
     @Override
     protected void init() {
         super.init();
+        dirtyRegions.markAllDirty();
         this.font = FontManager.getTextRenderer();
         if (font == null) { System.err.println("FontRenderer is null in ClickGUIScreen!"); return; }
 
@@ -50,10 +75,127 @@ public class ClickGUIScreen extends Screen {
             currentY += pH + pSpacing;
         }
         if (!categoryPanels.isEmpty()) setActiveCategoryPanel(categoryPanels.get(0));
+
+        int searchY = pY + categoryPanels.size() * (pH + pSpacing) - pSpacing + 15;
+        searchField = new SearchFieldComponent(pX - 5, searchY, pW + 10, pH, font, this::applySearch);
+        if (!searchQuery.isEmpty()) {
+            String query = searchQuery;
+            searchQuery = "";
+            searchField.setText(query);
+        }
+    }
+
+    private void applySearch(String query) {
+        if (query.equals(searchQuery)) return;
+        searchQuery = query;
+
+        if (query.isBlank()) {
+            for (CategoryPanel panel : categoryPanels) {
+                panel.setFilter(null);
+            }
+            return;
+        }
+
+        List<Module> found = ModuleHolder.getInstance().getSearchIndex().search(query);
+        Set<Module> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        matched.addAll(found);
+
+        boolean activeHasMatches = false;
+        for (CategoryPanel panel : categoryPanels) {
+            boolean hasMatches = panel.setFilter(matched);
+            if (panel == activeCategoryPanel) activeHasMatches = hasMatches;
+        }
+
+        // если в открытой категории ничего не нашлось, переключаемся на категорию лучшего совпадения
+        if (!activeHasMatches && !found.isEmpty()) {
+            Category best = found.get(0).getCategory();
+            for (CategoryPanel panel : categoryPanels) {
+                if (panel.getCategory() == best) {
+                    setActiveCategoryPanel(panel);
+                    break;
+                }
+            }
+        }
     }
 
     @Override
     public void render(DrawContext context, int mouseX, int mouseY, float delta) {
+        Framebuffer mainBuffer = MinecraftClient.getInstance().getFramebuffer();
+        if (frameCache == null) {
+            frameCache = new SimpleFramebuffer(mainBuffer.textureWidth, mainBuffer.textureHeight, true, MinecraftClient.IS_SYSTEM_MAC);
+            dirtyRegions.markAllDirty();
+        } else if (frameCache.textureWidth != mainBuffer.textureWidth || frameCache.textureHeight != mainBuffer.textureHeight) {
+            frameCache.resize(mainBuffer.textureWidth, mainBuffer.textureHeight, MinecraftClient.IS_SYSTEM_MAC);
+            dirtyRegions.markAllDirty();
+        }
+        updateDirtyRegions(mouseX, mouseY);
+
+        // фон непрозрачный, поэтому кадр целиком живёт в кэше и перерисовываются только изменившиеся куски
+        if (!dirtyRegions.isClean()) {
+            context.draw();
+            frameCache.beginWrite(false);
+            if (dirtyRegions.isFullRedraw()) {
+                renderScene(context, mouseX, mouseY, delta);
+                lastFullRedraw = FrameClock.millis();
+            } else {
+                dirtyRegions.redrawRegions(context.getMatrices(), () -> renderScene(context, mouseX, mouseY, delta));
+            }
+            context.draw();
+            dirtyRegions.clear();
+        }
+
+        GlStateManager._glBindFramebuffer(GL30C.GL_READ_FRAMEBUFFER, frameCache.fbo);
+        GlStateManager._glBindFramebuffer(GL30C.GL_DRAW_FRAMEBUFFER, mainBuffer.fbo);
+        GlStateManager._glBlitFrameBuffer(
+                0, 0, frameCache.textureWidth, frameCache.textureHeight,
+                0, 0, mainBuffer.textureWidth, mainBuffer.textureHeight,
+                GL30C.GL_COLOR_BUFFER_BIT, GL30C.GL_NEAREST
+        );
+        mainBuffer.beginWrite(false);
+    }
+
+    private void updateDirtyRegions(int mouseX, int mouseY) {
+        if ((searchField != null && searchField.isFocused()) || FrameClock.millis() - lastFullRedraw > FULL_REDRAW_INTERVAL) {
+            dirtyRegions.markAllDirty();
+        }
+        if (mouseX == lastMouseX && mouseY == lastMouseY) return;
+
+        Object hoverTarget = getHoverTarget(mouseX, mouseY);
+        boolean onlyModules = (hoverTarget == null || hoverTarget instanceof ModuleComponent)
+                && (lastHoverTarget == null || lastHoverTarget instanceof ModuleComponent);
+        if (onlyModules) {
+            markDirty(lastHoverTarget);
+            markDirty(hoverTarget);
+        } else {
+            dirtyRegions.markAllDirty();
+        }
+        lastHoverTarget = hoverTarget;
+        lastMouseX = mouseX;
+        lastMouseY = mouseY;
+    }
+
+    private void markDirty(Object target) {
+        if (target instanceof ModuleComponent component) {
+            dirtyRegions.markDirty(component.getX(), component.getY(), component.getWidth(), component.getHeight());
+        }
+    }
+
+    /**
+     * @return элемент под курсором, от которого зависит подсветка, или {@code null}
+     */
+    private Object getHoverTarget(double mouseX, double mouseY) {
+        if (searchField != null && mouseX >= searchField.getX() && mouseX <= searchField.getX() + searchField.getWidth()
+                && mouseY >= searchField.getY() && mouseY <= searchField.getY() + searchField.getHeight()) {
+            return searchField;
+        }
+        for (CategoryPanel panel : categoryPanels) {
+            Object target = panel.getHoverTarget(mouseX, mouseY);
+            if (target != null) return target;
+        }
+        return null;
+    }
+
+    private void renderScene(DrawContext context, int mouseX, int mouseY, float delta) {
         RendererUtils.drawBlur(
                 context.getMatrices(),
                 1,
@@ -65,6 +207,8 @@ public class ClickGUIScreen extends Screen {
                 ColorUtils.fromHex("1B1B1B"),
                 11, 1
         );
+        // BlurShader после копирования кадра снова биндит основной фреймбуфер
+        frameCache.beginWrite(false);
 
         // юзать билдер везде код будет чище
 //        new RectBuilder()
@@ -90,6 +234,10 @@ public class ClickGUIScreen extends Screen {
             );
         }
 
+        if (searchField != null) {
+            searchField.render(context, mouseX, mouseY, delta);
+        }
+
         for (CategoryPanel panel : categoryPanels) {
             panel.render(context, mouseX, mouseY, delta);
         }
@@ -97,6 +245,8 @@ public class ClickGUIScreen extends Screen {
 
     @Override
     public boolean mouseClicked(double mouseX, double mouseY, int button) {
+        dirtyRegions.markAllDirty();
+        if (searchField != null && searchField.mouseClicked(mouseX, mouseY, button)) return true;
         for (CategoryPanel panel : categoryPanels) {
             if (panel.mouseClicked(mouseX, mouseY, button)) return true;
         }
@@ -105,6 +255,7 @@ public class ClickGUIScreen extends Screen {
 
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double horizontalAmount, double verticalAmount) {
+        dirtyRegions.markAllDirty();
         boolean consumed = false;
         for (CategoryPanel panel : categoryPanels) {
             if (panel.mouseScrolled(mouseX, mouseY, verticalAmount)) {
@@ -115,11 +266,7 @@ public class ClickGUIScreen extends Screen {
 
         if (!consumed && verticalAmount != 0) {
             int bind = verticalAmount > 0 ? KeyUtils.MW_UP : KeyUtils.MW_DOWN;
-            for (Module module : ModuleHolder.getInstance().getModules()) {
-                if (module.getBind() == bind) {
-                    ModuleBinding.handle(module, true);
-                }
-            }
+            ModuleHolder.getInstance().getBindIndex().dispatch(bind, KeyUtils.getModifiers(), true);
         }
 
         return super.mouseScrolled(mouseX, mouseY, horizontalAmount, verticalAmount);
@@ -127,14 +274,30 @@ public class ClickGUIScreen extends Screen {
 
     @Override
     public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
+        dirtyRegions.markAllDirty();
+        if (searchField != null) {
+            if (searchField.keyPressed(keyCode, scanCode, modifiers)) return true;
+            if (keyCode == GLFW.GLFW_KEY_F && (modifiers & GLFW.GLFW_MOD_CONTROL) != 0) {
+                searchField.setFocused(true);
+                return true;
+            }
+        }
         if (activeCategoryPanel != null && activeCategoryPanel.keyPressed(keyCode, scanCode, modifiers)) {
             return true;
         }
         return super.keyPressed(keyCode, scanCode, modifiers);
     }
 
+    @Override
+    public boolean charTyped(char chr, int modifiers) {
+        dirtyRegions.markAllDirty();
+        if (searchField != null && searchField.charTyped(chr, modifiers)) return true;
+        return super.charTyped(chr, modifiers);
+    }
+
     @Override
     public boolean mouseReleased(double mouseX, double mouseY, int button) {
+        dirtyRegions.markAllDirty();
         for (CategoryPanel panel : categoryPanels) {
             panel.mouseReleased(mouseX, mouseY, button);
         }
@@ -143,12 +306,24 @@ public class ClickGUIScreen extends Screen {
 
     @Override
     public boolean mouseDragged(double mouseX, double mouseY, int button, double deltaX, double deltaY) {
+        dirtyRegions.markAllDirty();
         for (CategoryPanel panel : categoryPanels) {
             panel.mouseDragged(mouseX, mouseY, button, deltaX, deltaY);
         }
         return super.mouseDragged(mouseX, mouseY, button, deltaX, deltaY);
     }
 
+    @Override
+    public void removed() {
+        super.removed();
+        if (frameCache != null) {
+            frameCache.delete();
+            frameCache = null;
+        }
+        lastHoverTarget = null;
+        lastMouseX = lastMouseY = -1;
+    }
+
     @Override
     public boolean shouldPause() { return false; }
 
@@ -13,6 +13,7 @@ public interface Component {
     void mouseDragged(double mouseX, double mouseY, int button, double deltaX, double deltaY);
     default boolean mouseScrolled(double mouseX, double mouseY, double amount) { return false; }
     default boolean keyPressed(int keyCode, int scanCode, int modifiers) { return false; }
+    default boolean charTyped(char chr, int modifiers) { return false; }
     void setX(int x);
     void setY(int y);
     int getX();
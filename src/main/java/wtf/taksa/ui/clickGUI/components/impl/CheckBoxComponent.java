@@ -7,8 +7,8 @@ import wtf.taksa.ui.theme.Theme;
 import wtf.taksa.usual.utils.render.RendererUtils;
 
 import java.awt.*;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
-import java.util.function.Supplier;
 
 /**
  * Автор: NoCap
@@ -16,13 +16,13 @@ import java.util.function.Supplier;
  */
 public class CheckBoxComponent implements Component {
     private int x, y, size;
-    private final Supplier<Boolean> value;
+    private final BooleanSupplier value;
     private final Consumer<Boolean> action;
     
     private static final Identifier CHECK_BOX = Identifier.of("taksa", "textures/gui/clickgui/check_box.png");
     private static final Identifier INDETERMINATE_CHECK_BOX = Identifier.of("taksa", "textures/gui/clickgui/indeterminate_check_box.png");
 
-    public CheckBoxComponent(int x, int y, int size, Supplier<Boolean> value, Consumer<Boolean> action) {
+    public CheckBoxComponent(int x, int y, int size, BooleanSupplier value, Consumer<Boolean> action) {
         this.x = x;
         this.y = y;
         this.size = size;
@@ -32,7 +32,7 @@ public class CheckBoxComponent implements Component {
     
     @Override
     public void render(DrawContext context, int mouseX, int mouseY, float delta) {
-        boolean isChecked = value.get();
+        boolean isChecked = value.getAsBoolean();
         
         Identifier texture = isChecked ? CHECK_BOX : INDETERMINATE_CHECK_BOX;
         
@@ -42,7 +42,7 @@ public class CheckBoxComponent implements Component {
     @Override
     public boolean mouseClicked(double mouseX, double mouseY, int button) {
         if (button == 0 && isMouseOver(mouseX, mouseY)) {
-            action.accept(!value.get());
+            action.accept(!value.getAsBoolean());
             return true;
         }
         return false;
@@ -0,0 +1,144 @@
+package wtf.taksa.ui.clickGUI.components.impl;
+
+import net.minecraft.client.gui.DrawContext;
+import org.lwjgl.glfw.GLFW;
+import wtf.taksa.render.font.FontRenderer;
+import wtf.taksa.ui.clickGUI.components.Component;
+import wtf.taksa.ui.theme.Theme;
+import wtf.taksa.usual.utils.animation.FrameClock;
+import wtf.taksa.usual.utils.math.Radius;
+import wtf.taksa.usual.utils.render.RendererUtils;
+
+import java.awt.Color;
+import java.util.function.Consumer;
+
+public class SearchFieldComponent implements Component {
+    private static final int MAX_LENGTH = 32;
+    private static final String PLACEHOLDER = "Поиск...";
+
+    private final FontRenderer font;
+    private final Consumer<String> onChange;
+    private final StringBuilder text = new StringBuilder();
+    private int x, y, width, height;
+    private boolean focused = false;
+
+    public SearchFieldComponent(int x, int y, int width, int height, FontRenderer font, Consumer<String> onChange) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.font = font;
+        this.onChange = onChange;
+    }
+
+    @Override
+    public void render(DrawContext context, int mouseX, int mouseY, float delta) {
+        boolean isHovered = isMouseOver(mouseX, mouseY);
+        Color bgColor = focused || isHovered ? Theme.COMPONENT_HOVER : Theme.COMPONENT_BACKGROUND;
+        RendererUtils.drawRectangle(context.getMatrices(), x, y, width, height, new Radius(6), bgColor, 1f, 1f, 1f);
+
+        float maxTextWidth = width - 12;
+        float textY = y + (height - font.getStringHeight(PLACEHOLDER)) / 2f;
+        if (text.length() == 0 && !focused) {
+            font.drawString(context.getMatrices(), PLACEHOLDER, x + 6, textY, Theme.TEXT_GRAY);
+            return;
+        }
+
+        // показываем хвост строки, чтобы курсор всегда был виден
+        String visible = text.toString();
+        while (!visible.isEmpty() && font.getStringWidth(visible) > maxTextWidth) {
+            visible = visible.substring(1);
+        }
+        font.drawString(context.getMatrices(), visible, x + 6, textY, Theme.TEXT_LIGHT);
+
+        if (focused && (FrameClock.millis() / 500) % 2 == 0) {
+            float caretX = x + 6 + font.getStringWidth(visible) + 1;
+            RendererUtils.drawRectangle(context.getMatrices(), caretX, y + 5, 1, height - 10, new Radius(0), Theme.ACCENT, 1f, 1f, 0f);
+        }
+    }
+
+    @Override
+    public boolean mouseClicked(double mouseX, double mouseY, int button) {
+        if (!isMouseOver(mouseX, mouseY)) {
+            focused = false;
+            return false;
+        }
+        if (button == 1) {
+            setText("");
+        }
+        focused = true;
+        return true;
+    }
+
+    @Override
+    public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
+        if (!focused) return false;
+
+        switch (keyCode) {
+            case GLFW.GLFW_KEY_ESCAPE -> {
+                if (text.length() > 0) {
+                    setText("");
+                } else {
+                    focused = false;
+                }
+                return true;
+            }
+            case GLFW.GLFW_KEY_ENTER, GLFW.GLFW_KEY_KP_ENTER -> {
+                focused = false;
+                return true;
+            }
+            case GLFW.GLFW_KEY_BACKSPACE -> {
+                if (text.length() > 0) {
+                    if ((modifiers & GLFW.GLFW_MOD_CONTROL) != 0) {
+                        text.setLength(0);
+                    } else {
+                        text.setLength(text.length() - 1);
+                    }
+                    onChange.accept(text.toString());
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean charTyped(char chr, int modifiers) {
+        if (!focused || Character.isISOControl(chr) || text.length() >= MAX_LENGTH) return false;
+        text.append(chr);
+        onChange.accept(text.toString());
+        return true;
+    }
+
+    public void setText(String value) {
+        if (value.contentEquals(text)) return;
+        text.setLength(0);
+        text.append(value);
+        onChange.accept(value);
+    }
+
+    public String getText() {
+        return text.toString();
+    }
+
+    public boolean isFocused() {
+        return focused;
+    }
+
+    public void setFocused(boolean focused) {
+        this.focused = focused;
+    }
+
+    private boolean isMouseOver(double mouseX, double mouseY) {
+        return mouseX >= x && mouseX <= x + width && mouseY >= y && mouseY <= y + height;
+    }
+
+    @Override public boolean mouseReleased(double mouseX, double mouseY, int button) { return false; }
+    @Override public void mouseDragged(double mouseX, double mouseY, int button, double deltaX, double deltaY) {}
+    @Override public void setX(int x) { this.x = x; }
+    @Override public void setY(int y) { this.y = y; }
+    @Override public int getX() { return x; }
+    @Override public int getY() { return y; }
+    @Override public int getWidth() { return width; }
+    @Override public int getHeight() { return height; }
+}
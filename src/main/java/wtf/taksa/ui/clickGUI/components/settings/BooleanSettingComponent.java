@@ -17,7 +17,7 @@ public class BooleanSettingComponent extends SettingComponent<BooleanSetting> {
     public BooleanSettingComponent(BooleanSetting setting, int x, int y, int width, int height, FontRenderer font) {
         super(setting, x, y, width, height, font);
         int boxSize = height - 6;
-        this.checkBox = new CheckBoxComponent(x + width - boxSize - 4, y + 3, boxSize, setting::getValue, setting::setValue);
+        this.checkBox = new CheckBoxComponent(x + width - boxSize - 4, y + 3, boxSize, setting::getBoolean, setting::setBoolean);
     }
     
     @Override
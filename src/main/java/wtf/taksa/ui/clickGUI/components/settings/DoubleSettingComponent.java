@@ -28,13 +28,13 @@ public class DoubleSettingComponent extends SettingComponent<DoubleSetting> {
         boolean isHovered = isMouseOver(mouseX, mouseY);
         renderBase(context, isHovered || isDragging);
         
-        String valueText = round(setting.getValue(), 2).toString();
+        String valueText = round(setting.getDouble(), 2).toString();
         font.drawString(context.getMatrices(), valueText, 
                         x + width - font.getStringWidth(valueText) - 4, 
                         y + (height - font.getStringHeight(valueText)) / 2f, 
                         Theme.TEXT_GRAY.getRed()/255f, Theme.TEXT_GRAY.getGreen()/255f, Theme.TEXT_GRAY.getBlue()/255f, 1f);
                         
-        double value = setting.getValue();
+        double value = setting.getDouble();
         double min = setting.getMin();
         double max = setting.getMax();
         double percent = (value - min) / (max - min);
@@ -78,7 +78,7 @@ public class DoubleSettingComponent extends SettingComponent<DoubleSetting> {
         double clampedMouseX = Math.max(x, Math.min(mouseX, x + width));
         double percent = (clampedMouseX - x) / width;
         double newValue = min + (max - min) * percent;
-        setting.setValue(newValue);
+        setting.setDouble(newValue);
     }
 
     private static BigDecimal round(double value, int places) {
@@ -46,7 +46,7 @@ public class KeyBindComponent implements Component {
         int modeAreaX = x + bindAreaWidth + 4;
         int modeAreaWidth = width - bindAreaWidth - 4;
 
-        String bindText = listening ? "..." : "Bind: " + KeyUtils.getKeyName(module.getBind());
+        String bindText = listening ? "..." : "Bind: " + KeyUtils.getBindName(module.getBind(), module.getBindModifiers());
         font.drawString(context.getMatrices(), bindText, x + 5, y + (height - font.getStringHeight(bindText)) / 2f, Theme.TEXT_LIGHT.getRed()/255f, Theme.TEXT_LIGHT.getGreen()/255f, Theme.TEXT_LIGHT.getBlue()/255f, 1f);
 
         String modeText = module.getBinding().getDisplayName();
@@ -68,7 +68,7 @@ public class KeyBindComponent implements Component {
             if (button == 0) {
                 this.listening = true;
             } else if (button == 1) {
-                module.setBind(GLFW.GLFW_KEY_UNKNOWN);
+                module.setBind(GLFW.GLFW_KEY_UNKNOWN, 0);
                 this.listening = false;
             }
             return true;
@@ -80,7 +80,7 @@ public class KeyBindComponent implements Component {
         }
 
         if (listening && button >= 0) {
-            module.setBind(KeyUtils.getMouseButtonCode(button));
+            module.setBind(KeyUtils.getMouseButtonCode(button), KeyUtils.getModifiers());
             listening = false;
             return true;
         }
@@ -92,9 +92,10 @@ public class KeyBindComponent implements Component {
     public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
         if (listening) {
             if (keyCode == GLFW.GLFW_KEY_ESCAPE || keyCode == GLFW.GLFW_KEY_DELETE) {
-                module.setBind(GLFW.GLFW_KEY_UNKNOWN);
+                module.setBind(GLFW.GLFW_KEY_UNKNOWN, 0);
             } else {
-                module.setBind(keyCode);
+                // сама клавиша-модификатор приходит уже с собственным флагом, его не запоминаем
+                module.setBind(keyCode, KeyUtils.isModifierKey(keyCode) ? 0 : modifiers);
             }
             listening = false;
             return true;
@@ -105,13 +106,17 @@ public class KeyBindComponent implements Component {
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double amount) {
         if (listening && isMouseOver(mouseX, mouseY)) {
-            module.setBind(amount > 0 ? KeyUtils.MW_UP : KeyUtils.MW_DOWN);
+            module.setBind(amount > 0 ? KeyUtils.MW_UP : KeyUtils.MW_DOWN, KeyUtils.getModifiers());
             listening = false;
             return true;
         }
         return false;
     }
 
+    public void stopListening() {
+        this.listening = false;
+    }
+
     private void cycleBindingMode() {
         int currentIndex = BINDING_MODES.indexOf(module.getBinding());
         int nextIndex = (currentIndex + 1) % BINDING_MODES.size();
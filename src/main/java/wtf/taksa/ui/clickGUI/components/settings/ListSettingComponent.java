@@ -9,7 +9,6 @@ import wtf.taksa.ui.clickGUI.panel.SettingBoxComponent;
 import wtf.taksa.ui.theme.Theme;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class ListSettingComponent extends SettingComponent<ListSetting> {
 
@@ -67,6 +66,7 @@ public class ListSettingComponent extends SettingComponent<ListSetting> {
         }
     }
     
+    @Override
     public void closePanel() {
         if (this.isOpen) {
             this.isOpen = false;
@@ -97,8 +97,8 @@ class ListSelectionPanel implements Component {
         final int itemHeight = 14;
         final int itemSpacing = 2;
         
-        for (Map.Entry<String, Boolean> entry : setting.getValue().entrySet()) {
-            items.add(new ListItem(entry.getKey(), x, currentY, width, itemHeight, font, this));
+        for (String option : setting.getOptions()) {
+            items.add(new ListItem(option, x, currentY, width, itemHeight, font, this));
             currentY += itemHeight + itemSpacing;
         }
         this.height = items.isEmpty() ? 0 : items.size() * (itemHeight + itemSpacing) - itemSpacing;
@@ -148,10 +148,11 @@ class ListSelectionPanel implements Component {
             this.height = height;
             this.font = font;
             this.parentPanel = parentPanel;
+            int index = parentPanel.setting.indexOf(option);
             this.checkBox = new CheckBoxComponent(
                 x + 4, y + (height - 10) / 2, 10,
-                () -> this.parentPanel.setting.isToggled(option),
-                (val) -> this.parentPanel.setting.toggle(option)
+                () -> this.parentPanel.setting.isToggled(index),
+                (val) -> this.parentPanel.setting.setToggled(index, !this.parentPanel.setting.isToggled(index))
             );
         }
 
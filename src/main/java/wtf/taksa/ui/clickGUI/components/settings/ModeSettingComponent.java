@@ -71,6 +71,7 @@ public class ModeSettingComponent extends SettingComponent<ModeSetting> {
         }
     }
     
+    @Override
     public void closePanel() {
         if (this.isOpen) {
             this.isOpen = false;
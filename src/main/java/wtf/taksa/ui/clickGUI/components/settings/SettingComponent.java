@@ -39,6 +39,11 @@ public abstract class SettingComponent<T extends Setting<?>> implements Componen
         FontRenderer.drawClippedStringWithFade(context, font, setting.getName(), x + 4, y + (height - font.getStringHeight(setting.getName())) / 2f, width / 2f - 8, Theme.TEXT_LIGHT, bgColor);
     }
     
+    /**
+     * Закрывает выпадающую панель компонента, если она есть
+     */
+    public void closePanel() {}
+
     @Override public void setX(int x) { this.x = x; }
     @Override public void setY(int y) { this.y = y; }
     @Override public int getX() { return x; }
@@ -0,0 +1,64 @@
+package wtf.taksa.ui.clickGUI.components.settings;
+
+import wtf.taksa.module.setting.BooleanSetting;
+import wtf.taksa.module.setting.DoubleSetting;
+import wtf.taksa.module.setting.ListSetting;
+import wtf.taksa.module.setting.ModeSetting;
+import wtf.taksa.module.setting.Setting;
+import wtf.taksa.render.font.FontRenderer;
+import wtf.taksa.ui.clickGUI.panel.SettingBoxComponent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Реестр фабрик компонентов настроек по типу настройки.
+ * <p>Новый тип настройки подключается одним {@link #register}, без правки {@link SettingBoxComponent}.
+ * Если для класса нет своей фабрики, берётся фабрика ближайшего суперкласса; результат поиска кэшируется.</p>
+ */
+public final class SettingComponentFactory {
+
+    @FunctionalInterface
+    public interface Creator<S extends Setting<?>> {
+        SettingComponent<?> create(S setting, int x, int y, int width, int height, FontRenderer font, SettingBoxComponent parent);
+    }
+
+    private static final Creator<Setting<?>> UNSUPPORTED = (setting, x, y, width, height, font, parent) -> null;
+
+    private static final Map<Class<?>, Creator<?>> CREATORS = new HashMap<>();
+    private static final Map<Class<?>, Creator<?>> RESOLVED = new HashMap<>();
+
+    static {
+        register(BooleanSetting.class, (setting, x, y, width, height, font, parent) -> new BooleanSettingComponent(setting, x, y, width, height, font));
+        register(DoubleSetting.class, (setting, x, y, width, height, font, parent) -> new DoubleSettingComponent(setting, x, y, width, height, font));
+        register(ModeSetting.class, ModeSettingComponent::new);
+        register(ListSetting.class, ListSettingComponent::new);
+    }
+
+    private SettingComponentFactory() {
+    }
+
+    public static <S extends Setting<?>> void register(Class<S> type, Creator<S> creator) {
+        CREATORS.put(type, creator);
+        RESOLVED.clear();
+    }
+
+    /**
+     * @return компонент для настройки или {@code null}, если тип не отображается в GUI (например, {@code BindSetting})
+     */
+    @SuppressWarnings("unchecked")
+    public static SettingComponent<?> create(Setting<?> setting, int x, int y, int width, int height, FontRenderer font, SettingBoxComponent parent) {
+        Creator<Setting<?>> creator = (Creator<Setting<?>>) RESOLVED.computeIfAbsent(setting.getClass(), SettingComponentFactory::resolve);
+        return creator.create(setting, x, y, width, height, font, parent);
+    }
+
+    private static Creator<?> resolve(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Creator<?> creator = CREATORS.get(current);
+            if (creator != null) {
+                return creator;
+            }
+        }
+        return UNSUPPORTED;
+    }
+}
@@ -13,6 +13,9 @@ import wtf.taksa.usual.utils.math.Radius;
 import wtf.taksa.usual.utils.render.RendererUtils;
 
 import java.awt.*;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Автор: NoCap
@@ -36,6 +39,10 @@ public class CategoryPanel {
     private KeyBindComponent activeBindComponent;
     private Module activeBindModule = null;
 
+    // панели живут между открытиями, пересобираются только при смене списка настроек модуля
+    private final Map<Module, SettingBoxComponent> settingBoxes = new IdentityHashMap<>();
+    private final Map<Module, KeyBindComponent> bindComponents = new IdentityHashMap<>();
+
     public CategoryPanel(Category category, int x, int y, int width, int height, FontRenderer font, ClickGUIScreen parent) {
         this.category = category;
         this.x = x;
@@ -76,6 +83,28 @@ public class CategoryPanel {
                 textWidth, textColor, backgroundColor);
     }
 
+    /**
+     * Элемент под курсором, от которого зависит подсветка: кнопка категории ({@code this}), панель настроек,
+     * панель бинда или {@link ModuleComponent}. Пока открыт выпадающий список, панель настроек перекрывает всё.
+     */
+    public Object getHoverTarget(double mouseX, double mouseY) {
+        if (activeBindComponent != null && isMouseOver(mouseX, mouseY, activeBindComponent.getX(), activeBindComponent.getY(), activeBindComponent.getWidth(), activeBindComponent.getHeight())) {
+            return activeBindComponent;
+        }
+        if (activeSettingBox != null) {
+            final int padding = 4;
+            if (activeSettingBox.hasOpenPanel() || isMouseOver(mouseX, mouseY, activeSettingBox.getX() - padding, activeSettingBox.getY() - padding,
+                    activeSettingBox.getWidth() + padding * 2, activeSettingBox.getHeight() + padding * 2)) {
+                return activeSettingBox;
+            }
+        }
+        if (isOpen) {
+            ModuleComponent component = modulePanel.getComponentAt(mouseX, mouseY);
+            if (component != null) return component;
+        }
+        return isMouseOver(mouseX, mouseY, x, y, width, height) ? this : null;
+    }
+
     public boolean mouseClicked(double mouseX, double mouseY, int button) {
         if (activeBindComponent != null && activeBindComponent.mouseClicked(mouseX, mouseY, button)) {
             return true;
@@ -133,39 +162,86 @@ public class CategoryPanel {
     public void setOpen(boolean open) {
         this.isOpen = open;
         if (!open) {
-            activeSettingBox = null;
-            activeSettingsModule = null;
-            activeBindComponent = null;
-            activeBindModule = null;
+            hideSettingsPanel();
+            hideBindPanel();
         }
     }
 
+    /**
+     * Фильтрует модули категории по результатам поиска
+     *
+     * @return есть ли в категории хоть один видимый модуль
+     */
+    public boolean setFilter(Set<Module> filter) {
+        // после перекладки кнопок открытые панели оказались бы не на своих местах
+        hideSettingsPanel();
+        hideBindPanel();
+        modulePanel.setFilter(filter);
+        return modulePanel.hasVisibleModules();
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
     public void toggleSettingsPanel(ModuleComponent buttonComponent) {
         Module module = buttonComponent.getModule();
         if (activeSettingsModule == module) {
-            activeSettingBox = null;
-            activeSettingsModule = null;
+            hideSettingsPanel();
         } else if (!module.getSettings().isEmpty()) {
+            hideSettingsPanel();
             activeSettingsModule = module;
             int settingsX = buttonComponent.getX() + buttonComponent.getWidth() + panelXOffset;
-            activeSettingBox = new SettingBoxComponent(module, settingsX, buttonComponent.getY(), width, font);
+            SettingBoxComponent box = settingBoxes.get(module);
+            if (box == null || box.isStale()) {
+                box = new SettingBoxComponent(module, settingsX, buttonComponent.getY(), width, font);
+                settingBoxes.put(module, box);
+            } else {
+                box.setX(settingsX);
+                box.setY(buttonComponent.getY());
+            }
+            activeSettingBox = box;
         }
     }
 
     public void toggleBindPanel(ModuleComponent buttonComponent) {
         Module module = buttonComponent.getModule();
         if (activeBindModule == module) {
-            activeBindComponent = null;
-            activeBindModule = null;
+            hideBindPanel();
         } else {
+            hideBindPanel();
             activeBindModule = module;
             int bindPanelX = buttonComponent.getX() + buttonComponent.getWidth() + panelXOffset;
             int yPos = buttonComponent.getY();
             if (activeSettingsModule == module && activeSettingBox != null) {
                 bindPanelX = activeSettingBox.getX() + activeSettingBox.getWidth() + panelXOffset;
             }
-            activeBindComponent = new KeyBindComponent(module, bindPanelX, yPos, width + 20, height, font);
+            KeyBindComponent bindComponent = bindComponents.get(module);
+            if (bindComponent == null) {
+                bindComponent = new KeyBindComponent(module, bindPanelX, yPos, width + 20, height, font);
+                bindComponents.put(module, bindComponent);
+            } else {
+                bindComponent.setX(bindPanelX);
+                bindComponent.setY(yPos);
+            }
+            activeBindComponent = bindComponent;
+        }
+    }
+
+    private void hideSettingsPanel() {
+        if (activeSettingBox != null) {
+            activeSettingBox.closePanels();
+        }
+        activeSettingBox = null;
+        activeSettingsModule = null;
+    }
+
+    private void hideBindPanel() {
+        if (activeBindComponent != null) {
+            activeBindComponent.stopListening();
         }
+        activeBindComponent = null;
+        activeBindModule = null;
     }
 
     private boolean isMouseOver(double mouseX, double mouseY, int rX, int rY, int rW, int rH) {
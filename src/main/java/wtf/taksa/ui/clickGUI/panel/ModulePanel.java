@@ -14,12 +14,16 @@ import wtf.taksa.usual.utils.render.RendererUtils;
 import java.awt.Color;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Автор: NoCap
  * Дата создания: 02.07.2025
  */
 public class ModulePanel implements Component {
+    private static final int moduleSpace = 4;
+
+    private final List<ModuleComponent> allComponents = new ArrayList<>();
     private final List<ModuleComponent> components = new ArrayList<>();
     private int x, y, width, height, moduleHeight;
 
@@ -29,15 +33,31 @@ public class ModulePanel implements Component {
         this.width = width;
         this.moduleHeight = moduleHeight;
         
+        for (Module module : ModuleHolder.getInstance().getModules(category)) {
+            allComponents.add(new ModuleComponent(module, x, y, width, moduleHeight, font, parent));
+        }
+        setFilter(null);
+    }
+
+    /**
+     * Оставляет видимыми только модули из {@code filter} и перекладывает их столбиком
+     *
+     * @param filter найденные модули или {@code null}, чтобы показать все
+     */
+    public void setFilter(Set<Module> filter) {
+        components.clear();
         int currentY = y;
-        final int moduleSpace = 4;
-        
-        List<Module> modules = ModuleHolder.getInstance().getModules(category);
-        for (Module module : modules) {
-            components.add(new ModuleComponent(module, x, currentY, width, moduleHeight, font, parent));
+        for (ModuleComponent component : allComponents) {
+            if (filter != null && !filter.contains(component.getModule())) continue;
+            component.setY(currentY);
+            components.add(component);
             currentY += moduleHeight + moduleSpace;
         }
-        this.height = modules.isEmpty() ? 0 : (modules.size() * (moduleHeight + moduleSpace) - moduleSpace);
+        this.height = components.isEmpty() ? 0 : (components.size() * (moduleHeight + moduleSpace) - moduleSpace);
+    }
+
+    public boolean hasVisibleModules() {
+        return !components.isEmpty();
     }
     
     @Override
@@ -64,6 +84,16 @@ public class ModulePanel implements Component {
         return false;
     }
     
+    public ModuleComponent getComponentAt(double mouseX, double mouseY) {
+        for (ModuleComponent component : components) {
+            if (mouseX >= component.getX() && mouseX <= component.getX() + component.getWidth()
+                    && mouseY >= component.getY() && mouseY <= component.getY() + component.getHeight()) {
+                return component;
+            }
+        }
+        return null;
+    }
+
     public ModuleComponent getComponentForModule(Module module) {
         return components.stream().filter(c -> c.getModule() == module).findFirst().orElse(null);
     }
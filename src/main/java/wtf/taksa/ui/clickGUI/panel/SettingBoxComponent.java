@@ -2,10 +2,11 @@ package wtf.taksa.ui.clickGUI.panel;
 
 import net.minecraft.client.gui.DrawContext;
 import wtf.taksa.module.Module;
-import wtf.taksa.module.setting.*;
+import wtf.taksa.module.setting.Setting;
 import wtf.taksa.render.font.FontRenderer;
 import wtf.taksa.ui.clickGUI.components.Component;
-import wtf.taksa.ui.clickGUI.components.settings.*;
+import wtf.taksa.ui.clickGUI.components.settings.SettingComponent;
+import wtf.taksa.ui.clickGUI.components.settings.SettingComponentFactory;
 import wtf.taksa.ui.theme.Theme;
 import wtf.taksa.usual.utils.math.Radius;
 import wtf.taksa.usual.utils.render.RendererUtils;
@@ -18,36 +19,52 @@ import java.util.List;
  * Дата создания: 02.07.2025
  */
 public class SettingBoxComponent implements Component {
+    private static final int SETTING_HEIGHT = 18;
+    private static final int SETTING_SPACE = 2;
+
     private final Module module;
     private final List<SettingComponent<?>> components = new ArrayList<>();
+    private final int settingsVersion;
     private int x, y, width, height;
 
     private SettingComponent<?> openPanelOwner = null;
 
     public SettingBoxComponent(Module module, int x, int y, int width, FontRenderer font) {
         this.module = module;
+        this.settingsVersion = module.getSettingsVersion();
         this.x = x;
         this.y = y;
         this.width = width;
 
-        final int settingHeight = 18;
-        final int settingSpace = 2;
         int currentY = y;
-
         for (Setting<?> setting : module.getSettings()) {
-            if (setting instanceof BooleanSetting booleanSetting) {
-                components.add(new BooleanSettingComponent(booleanSetting, x, currentY, width, settingHeight, font));
-            } else if (setting instanceof DoubleSetting doubleSetting) {
-                components.add(new DoubleSettingComponent(doubleSetting, x, currentY, width, settingHeight, font));
-            }
-            else if (setting instanceof ModeSetting modeSetting) {
-                components.add(new ModeSettingComponent(modeSetting, x, currentY, width, settingHeight, font, this));
-            } else if (setting instanceof ListSetting listSetting) {
-                components.add(new ListSettingComponent(listSetting, x, currentY, width, settingHeight, font, this));
-            }
-            currentY += settingHeight + settingSpace;
+            SettingComponent<?> component = SettingComponentFactory.create(setting, x, currentY, width, SETTING_HEIGHT, font, this);
+            if (component == null) continue;
+            components.add(component);
+            currentY += SETTING_HEIGHT + SETTING_SPACE;
+        }
+        this.height = components.isEmpty() ? 0 : (components.size() * (SETTING_HEIGHT + SETTING_SPACE) - SETTING_SPACE);
+    }
+
+    /**
+     * @return {@code true}, если у модуля поменялся список настроек и панель надо собрать заново
+     */
+    public boolean isStale() {
+        return settingsVersion != module.getSettingsVersion();
+    }
+
+    public boolean hasOpenPanel() {
+        return openPanelOwner != null;
+    }
+
+    /**
+     * Сбрасывает открытые выпадающие панели, вызывается при скрытии бокса
+     */
+    public void closePanels() {
+        if (openPanelOwner != null) {
+            openPanelOwner.closePanel();
+            openPanelOwner = null;
         }
-        this.height = module.getSettings().isEmpty() ? 0 : (module.getSettings().size() * (settingHeight + settingSpace) - settingSpace);
     }
 
     @Override
@@ -79,11 +96,7 @@ public class SettingBoxComponent implements Component {
 
     public void closeOtherPanels(SettingComponent<?> owner) {
         if (openPanelOwner != null && openPanelOwner != owner) {
-            if (openPanelOwner instanceof ModeSettingComponent comp) {
-                comp.closePanel();
-            } else if (openPanelOwner instanceof ListSettingComponent comp) {
-                comp.closePanel();
-            }
+            openPanelOwner.closePanel();
         }
         this.openPanelOwner = owner;
     }
@@ -122,7 +135,14 @@ public class SettingBoxComponent implements Component {
 
     public Module getModule() { return module; }
     @Override public void setX(int x) { this.x = x; components.forEach(c -> c.setX(x)); }
-    @Override public void setY(int y) {}
+    @Override public void setY(int y) {
+        this.y = y;
+        int currentY = y;
+        for (SettingComponent<?> component : components) {
+            component.setY(currentY);
+            currentY += SETTING_HEIGHT + SETTING_SPACE;
+        }
+    }
     @Override public int getX() { return x; }
     @Override public int getY() { return y; }
     @Override public int getWidth() { return width; }
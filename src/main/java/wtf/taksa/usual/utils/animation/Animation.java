@@ -1,9 +1,9 @@
 package wtf.taksa.usual.utils.animation;
 
 
+import lombok.AccessLevel;
 import lombok.Setter;
 import lombok.experimental.Accessors;
-import wtf.taksa.usual.utils.math.Timer;
 
 import static wtf.taksa.usual.utils.animation.Direction.FORWARDS;
 /**
@@ -11,21 +11,26 @@ import static wtf.taksa.usual.utils.animation.Direction.FORWARDS;
  * @since 28.06.2025
  */
 
+/**
+ * Время берётся из {@link FrameClock}: все анимации в пределах кадра видят одно значение.
+ * Анимация считается по времени в замкнутой форме, поэтому тикать её не нужно.
+ */
 @Setter
 @Accessors(chain = true)
 public abstract class Animation implements AnimationCalculation {
-    private final Timer counter = new Timer();
+    @Setter(AccessLevel.NONE)
+    private long start = FrameClock.millis();
     protected int ms;
     protected double value;
 
     protected Direction direction = FORWARDS;
 
     public void reset() {
-        counter.reset();
+        start = FrameClock.millis();
     }
 
     public boolean isDone() {
-        return counter.isReached(ms);
+        return elapsed() > ms;
     }
 
     public boolean isFinished(Direction direction) {
@@ -40,13 +45,15 @@ public abstract class Animation implements AnimationCalculation {
     }
 
     private void adjustTimer() {
-        counter.setTime(
-                System.currentTimeMillis() - ((long) ms - Math.min(ms, counter.getTime()))
-        );
+        start = FrameClock.millis() - ((long) ms - Math.min(ms, elapsed()));
+    }
+
+    private long elapsed() {
+        return FrameClock.millis() - start;
     }
 
     public Double getOutput() {
-        double time = (1 - calculation(counter.getTime())) * value;
+        double time = (1 - calculation(elapsed())) * value;
 
         return direction == FORWARDS
                 ? endValue()
@@ -56,6 +63,6 @@ public abstract class Animation implements AnimationCalculation {
     private double endValue() {
         return isDone()
                 ? value
-                : calculation(counter.getTime()) * value;
+                : calculation(elapsed()) * value;
     }
-}
\ No newline at end of file
+}
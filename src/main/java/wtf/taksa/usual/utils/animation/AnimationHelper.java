@@ -1,7 +1,5 @@
 package wtf.taksa.usual.utils.animation;
 
-import net.minecraft.client.MinecraftClient;
-
 import java.awt.*;
 /**
  * @author Kenny1337
@@ -16,22 +14,22 @@ public class AnimationHelper {
         this.anim = anim;
         this.to = to;
         this.speed = speed;
-        mc = System.currentTimeMillis();
+        mc = FrameClock.millis();
     }
 
     public float getAnim() {
-        int count = (int) ((System.currentTimeMillis() - mc) / 5);
-        if (count > 0){
-            mc = System.currentTimeMillis();
-        }
-        for (int i = 0; i < count; i++) {
-            anim = lerp(anim, to, speed);
+        long now = FrameClock.millis();
+        long elapsed = now - mc;
+        if (elapsed > 0) {
+            mc = now;
+            anim = to + (anim - to) * AnimationUtil.retain(speed, elapsed);
         }
         return anim;
     }
 
     public static float fast(float end, float start, float multiple) {
-        return (1 - clamp(deltaTime() * multiple, 0, 1)) * end + clamp(deltaTime() * multiple, 0, 1) * start;
+        float alpha = clamp(deltaTime() * multiple, 0, 1);
+        return (1 - alpha) * end + alpha * start;
     }
 
     public static float clamp(float val, float min, float max) {
@@ -45,13 +43,13 @@ public class AnimationHelper {
     }
 
     public void reset(){
-        mc = System.currentTimeMillis();
+        mc = FrameClock.millis();
     }
 
     public void setAnim(float anim) {
         this.anim = anim;
         this.anim2 = anim;
-        mc = System.currentTimeMillis();
+        mc = FrameClock.millis();
     }
 
     public static float lerp(float start, float end, float alpha) {
@@ -60,7 +58,7 @@ public class AnimationHelper {
 
 
     public static float deltaTime() {
-        return (float) (MinecraftClient.getInstance().getCurrentFps() > 0 ? 1.0 / (double) MinecraftClient.getInstance().getCurrentFps() : 1.0);
+        return FrameClock.deltaSeconds();
     }
 
     public static Color applyOpacity(Color color, float opacity) {
@@ -74,50 +72,30 @@ public class AnimationHelper {
         return new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (color.getAlpha() * opacity)).getRGB();
     }
 
-    //Анимации
+    //Анимации, сами кривые живут в AnimationUtil
     public static float easeOutBounce(float t) {
-        if (t < (1 / 2.75f)) {
-            return 7.5625f * t * t;
-        } else if (t < (2 / 2.75f)) {
-            t -= (1.5f / 2.75f);
-            return 7.5625f * t * t + 0.75f;
-        } else if (t < (2.5 / 2.75)) {
-            t -= (2.25f / 2.75f);
-            return 7.5625f * t * t + 0.9375f;
-        } else {
-            t -= (2.625f / 2.75f);
-            return 7.5625f * t * t + 0.984375f;
-        }
+        return AnimationUtil.easeOutBounce(t);
     }
 
     public static float easeOutScale(float t) {
-        return (float) (1 - Math.pow(1 - t, 3));
+        return AnimationUtil.easeOutScale(t);
     }
     public static float easeIn(float t) {
-        return t * t;
+        return AnimationUtil.easeIn(t);
     }
     public static float easeOut(float t) {
-        return t * (2 - t);
+        return AnimationUtil.easeOut(t);
     }
     public static float easeInOut(float t) {
-        if (t < 0.5f) {
-            return 2 * t * t;
-        } else {
-            return -1 + (4 - 2 * t) * t;
-        }
+        return AnimationUtil.easeInOut(t);
     }
     public static float easeOutElastic(float t) {
-        float p = 0.3f;
-        if (t == 0 || t == 1) return t;
-        float s = p / 4;
-        t -= 1;
-        return (float)(Math.pow(2, -10 * t) * Math.sin((t - s) * (2 * Math.PI) / p) + 1);
+        return AnimationUtil.easeOutElastic(t);
     }
     public static float easeInBounce(float t) {
-        return 1 - easeOutBounce(1 - t);
+        return AnimationUtil.easeInBounce(t);
     }
     public static float easeInOutBounce(float t) {
-        if (t < 0.5f) return easeInBounce(t * 2) * 0.5f;
-        return easeOutBounce(t * 2 - 1) * 0.5f + 0.5f;
+        return AnimationUtil.easeInOutBounce(t);
     }
 }
@@ -1,6 +1,7 @@
 package wtf.taksa.usual.utils.animation;
 
-import net.minecraft.client.MinecraftClient;
+import wtf.taksa.usual.utils.animation.util.EasingTable;
+import wtf.taksa.usual.utils.animation.util.Easings;
 
 import java.awt.*;
 /**
@@ -8,6 +9,14 @@ import java.awt.*;
  * @since 28.06.2025
  */
 public class AnimationUtil {
+    // bounce берётся из таблиц Easings, а здесь своя эластичная кривая (p = 0.3, сдвиг на t - 1), не совпадает с Easings.ELASTIC_OUT
+    private static final EasingTable ELASTIC_OUT = EasingTable.bake(t -> {
+        double p = 0.3D;
+        if (t == 0 || t == 1) return t;
+        double s = p / 4;
+        t -= 1;
+        return Math.pow(2, -10 * t) * Math.sin((t - s) * (2 * Math.PI) / p) + 1;
+    });
 
     long mc;
     public float anim, anim2, to, speed;
@@ -15,22 +24,22 @@ public class AnimationUtil {
         this.anim = anim;
         this.to = to;
         this.speed = speed;
-        mc = System.currentTimeMillis();
+        mc = FrameClock.millis();
     }
 
     public float getAnim() {
-        int count = (int) ((System.currentTimeMillis() - mc) / 5);
-        if (count > 0){
-            mc = System.currentTimeMillis();
-        }
-        for (int i = 0; i < count; i++) {
-            anim = lerp(anim, to, speed);
+        long now = FrameClock.millis();
+        long elapsed = now - mc;
+        if (elapsed > 0) {
+            mc = now;
+            anim = to + (anim - to) * retain(speed, elapsed);
         }
         return anim;
     }
 
     public static float fast(float end, float start, float multiple) {
-        return (1 - clamp(deltaTime() * multiple, 0, 1)) * end + clamp(deltaTime() * multiple, 0, 1) * start;
+        float alpha = clamp(deltaTime() * multiple, 0, 1);
+        return (1 - alpha) * end + alpha * start;
     }
 
     public static float clamp(float val, float min, float max) {
@@ -44,22 +53,30 @@ public class AnimationUtil {
     }
 
     public void reset(){
-        mc = System.currentTimeMillis();
+        mc = FrameClock.millis();
     }
 
     public void setAnim(float anim) {
         this.anim = anim;
         this.anim2 = anim;
-        mc = System.currentTimeMillis();
+        mc = FrameClock.millis();
     }
 
     public static float lerp(float start, float end, float alpha) {
         return start + alpha * (end - start);
     }
 
+    /**
+     * Какая доля расстояния до цели остаётся после {@code millis}, если каждые 5 мс проходится доля {@code speed}.
+     * Замкнутая форма цикла lerp'ов из {@link #getAnim()}
+     */
+    public static float retain(float speed, double millis) {
+        return (float) Math.pow(1.0 - speed, millis / 5.0);
+    }
+
 
     public static float deltaTime() {
-        return (float) (MinecraftClient.getInstance().getCurrentFps() > 0 ? 1.0 / (double) MinecraftClient.getInstance().getCurrentFps() : 1.0);
+        return FrameClock.deltaSeconds();
     }
 
     public static Color applyOpacity(Color color, float opacity) {
@@ -75,22 +92,12 @@ public class AnimationUtil {
 
     //Анимации
     public static float easeOutBounce(float t) {
-        if (t < (1 / 2.75f)) {
-            return 7.5625f * t * t;
-        } else if (t < (2 / 2.75f)) {
-            t -= (1.5f / 2.75f);
-            return 7.5625f * t * t + 0.75f;
-        } else if (t < (2.5 / 2.75)) {
-            t -= (2.25f / 2.75f);
-            return 7.5625f * t * t + 0.9375f;
-        } else {
-            t -= (2.625f / 2.75f);
-            return 7.5625f * t * t + 0.984375f;
-        }
+        return Easings.BOUNCE_OUT.sample(t);
     }
 
     public static float easeOutScale(float t) {
-        return (float) (1 - Math.pow(1 - t, 3));
+        float inv = 1 - t;
+        return 1 - inv * inv * inv;
     }
     public static float easeIn(float t) {
         return t * t;
@@ -106,17 +113,12 @@ public class AnimationUtil {
         }
     }
     public static float easeOutElastic(float t) {
-        float p = 0.3f;
-        if (t == 0 || t == 1) return t;
-        float s = p / 4;
-        t -= 1;
-        return (float)(Math.pow(2, -10 * t) * Math.sin((t - s) * (2 * Math.PI) / p) + 1);
+        return ELASTIC_OUT.sample(t);
     }
     public static float easeInBounce(float t) {
-        return 1 - easeOutBounce(1 - t);
+        return Easings.BOUNCE_IN.sample(t);
     }
     public static float easeInOutBounce(float t) {
-        if (t < 0.5f) return easeInBounce(t * 2) * 0.5f;
-        return easeOutBounce(t * 2 - 1) * 0.5f + 0.5f;
+        return Easings.BOUNCE_IN_OUT.sample(t);
     }
 }
\ No newline at end of file
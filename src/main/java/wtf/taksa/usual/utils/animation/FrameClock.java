@@ -0,0 +1,60 @@
+package wtf.taksa.usual.utils.animation;
+
+/**
+ * Часы кадра: время снимается один раз в начале кадра через {@link System#nanoTime()},
+ * все анимации в пределах кадра читают одно и то же значение.
+ * <p>Значение двигается только раз в кадр, поэтому это часы только для анимаций рендер-потока: таймерам тиков
+ * и сетевого потока нужен {@link System#currentTimeMillis()} (см. {@code Timer}).</p>
+ */
+public final class FrameClock {
+    /**
+     * Ограничение на дельту, чтобы после фриза (загрузка мира, alt-tab) анимации не прыгали
+     */
+    private static final float MAX_DELTA = 0.25f;
+
+    private static final long ORIGIN_NANOS = System.nanoTime();
+    private static final long ORIGIN_MILLIS = System.currentTimeMillis();
+
+    private static volatile long frameNanos = ORIGIN_NANOS;
+    private static float deltaSeconds;
+    private static long frame;
+
+    private FrameClock() {
+    }
+
+    /**
+     * Снимает время нового кадра. Вызывается один раз за кадр из {@code MixinMinecraftClient}
+     */
+    public static void tick() {
+        long now = System.nanoTime();
+        long delta = now - frameNanos;
+        frameNanos = now;
+        deltaSeconds = Math.min(delta / 1_000_000_000f, MAX_DELTA);
+        frame++;
+    }
+
+    /**
+     * @return время начала текущего кадра в наносекундах (шкала {@link System#nanoTime()})
+     */
+    public static long nanos() {
+        return frameNanos;
+    }
+
+    /**
+     * @return время начала текущего кадра в миллисекундах, совместимое с {@link System#currentTimeMillis()}
+     */
+    public static long millis() {
+        return ORIGIN_MILLIS + (frameNanos - ORIGIN_NANOS) / 1_000_000L;
+    }
+
+    /**
+     * @return длительность предыдущего кадра в секундах
+     */
+    public static float deltaSeconds() {
+        return deltaSeconds;
+    }
+
+    public static long frame() {
+        return frame;
+    }
+}
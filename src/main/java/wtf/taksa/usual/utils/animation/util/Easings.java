@@ -2,6 +2,10 @@ package wtf.taksa.usual.utils.animation.util;
 
 import lombok.experimental.UtilityClass;
 /**
+ * Кривые с {@code pow}, {@code sin}, {@code cos} и {@code sqrt} запечены в {@link EasingTable} при загрузке класса
+ * и на сэмпл стоят одну интерполяцию; степенные {@code *_IN}/{@code *_OUT} считаются умножениями напрямую.
+ * Точность таблиц описана в {@link EasingTable}: хуже всего у {@code CIRC_*} около нуля, до 1.1e-2
+ *
  * @author Kenny1337
  * @since 28.06.2025
  */
@@ -15,64 +19,82 @@ public final class Easings {
     public final Easing LINEAR = (value) -> value;
     public final Easing QUAD_IN = powIn(2);
     public final Easing QUAD_OUT = powOut(2);
-    public final Easing QUAD_IN_OUT = powIN_OUT(2.0D);
+    public final EasingTable QUAD_IN_OUT = EasingTable.bake(powIN_OUT(2.0D));
     public final Easing CUBIC_IN = powIn(3);
     public final Easing CUBIC_OUT = powOut(3);
-    public final Easing CUBIC_IN_OUT = powIN_OUT(3.0D);
+    public final EasingTable CUBIC_IN_OUT = EasingTable.bake(powIN_OUT(3.0D));
     public final Easing QUART_IN = powIn(4);
     public final Easing QUART_OUT = powOut(4);
-    public final Easing QUART_IN_OUT = powIN_OUT(4.0D);
+    public final EasingTable QUART_IN_OUT = EasingTable.bake(powIN_OUT(4.0D));
     public final Easing QUINT_IN = powIn(5);
     public final Easing QUINT_OUT = powOut(5);
-    public final Easing QUINT_IN_OUT = powIN_OUT(5.0D);
-    public final Easing SINE_IN = (value) -> 1.0D - Math.cos(value * Math.PI / 2.0D);
-    public final Easing SINE_OUT = (value) -> Math.sin(value * Math.PI / 2.0D);
-    public final Easing SINE_IN_OUT = (value) -> -(Math.cos(Math.PI * value) - 1.0D) / 2.0D;
-    public final Easing CIRC_IN = (value) -> 1.0D - Math.sqrt(1.0D - Math.pow(value, 2.0D));
-    public final Easing CIRC_OUT = (value) -> Math.sqrt(1.0D - Math.pow(value - 1.0D, 2.0D));
-    public final Easing CIRC_IN_OUT = (value) -> value < 0.5D ? (1.0D - Math.sqrt(1.0D - Math.pow(2.0D * value, 2.0D))) / 2.0D : (Math.sqrt(1.0D - Math.pow(-2.0D * value + 2.0D, 2.0D)) + 1.0D) / 2.0D;
-    public final Easing ELASTIC_IN = (value) -> value != 0.0D && value != 1.0D ? Math.pow(-2.0D, 10.0D * value - 10.0D) * Math.sin((value * 10.0D - 10.75D) * 2.0943951023931953D) : value;
-    public final Easing ELASTIC_OUT = (value) -> value != 0.0D && value != 1.0D ? Math.pow(2.0D, -10.0D * value) * Math.sin((value * 10.0D - 0.75D) * 2.0943951023931953D) + 1.0D : value;
-    public final Easing ELASTIC_IN_OUT = (value) -> {
+    public final EasingTable QUINT_IN_OUT = EasingTable.bake(powIN_OUT(5.0D));
+    public final EasingTable SINE_IN = EasingTable.bake((value) -> 1.0D - Math.cos(value * Math.PI / 2.0D));
+    public final EasingTable SINE_OUT = EasingTable.bake((value) -> Math.sin(value * Math.PI / 2.0D));
+    public final EasingTable SINE_IN_OUT = EasingTable.bake((value) -> -(Math.cos(Math.PI * value) - 1.0D) / 2.0D);
+    public final EasingTable CIRC_IN = EasingTable.bake((value) -> 1.0D - Math.sqrt(1.0D - Math.pow(value, 2.0D)));
+    public final EasingTable CIRC_OUT = EasingTable.bake((value) -> Math.sqrt(1.0D - Math.pow(value - 1.0D, 2.0D)));
+    public final EasingTable CIRC_IN_OUT = EasingTable.bake((value) -> value < 0.5D ? (1.0D - Math.sqrt(1.0D - Math.pow(2.0D * value, 2.0D))) / 2.0D : (Math.sqrt(1.0D - Math.pow(-2.0D * value + 2.0D, 2.0D)) + 1.0D) / 2.0D);
+    public final EasingTable ELASTIC_IN = EasingTable.bake((value) -> value != 0.0D && value != 1.0D ? Math.pow(-2.0D, 10.0D * value - 10.0D) * Math.sin((value * 10.0D - 10.75D) * 2.0943951023931953D) : value);
+    public final EasingTable ELASTIC_OUT = EasingTable.bake((value) -> value != 0.0D && value != 1.0D ? Math.pow(2.0D, -10.0D * value) * Math.sin((value * 10.0D - 0.75D) * 2.0943951023931953D) + 1.0D : value);
+    public final EasingTable ELASTIC_IN_OUT = EasingTable.bake((value) -> {
         if (value != 0.0D && value != 1.0D) {
             return value < 0.5D ? -(Math.pow(2.0D, 20.0D * value - 10.0D) * Math.sin((20.0D * value - 11.125D) * 1.3962634015954636D)) / 2.0D : Math.pow(2.0D, -20.0D * value + 10.0D) * Math.sin((20.0D * value - 11.125D) * 1.3962634015954636D) / 2.0D + 1.0D;
         } else {
             return value;
         }
-    };
-    public final Easing EXPO_IN = (value) -> value != 0.0D ? Math.pow(2.0D, 10.0D * value - 10.0D) : value;
-    public final Easing EXPO_OUT = (value) -> value != 1.0D ? 1.0D - Math.pow(2.0D, -10.0D * value) : value;
-    public final Easing EXPO_IN_OUT = (value) -> {
+    });
+    public final EasingTable EXPO_IN = EasingTable.bake((value) -> value != 0.0D ? Math.pow(2.0D, 10.0D * value - 10.0D) : value);
+    public final EasingTable EXPO_OUT = EasingTable.bake((value) -> value != 1.0D ? 1.0D - Math.pow(2.0D, -10.0D * value) : value);
+    public final EasingTable EXPO_IN_OUT = EasingTable.bake((value) -> {
         if (value != 0.0D && value != 1.0D) {
             return value < 0.5D ? Math.pow(2.0D, 20.0D * value - 10.0D) / 2.0D : (2.0D - Math.pow(2.0D, -20.0D * value + 10.0D)) / 2.0D;
         } else {
             return value;
         }
-    };
-    public final Easing BACK_IN = (value) -> 2.70158D * Math.pow(value, 3.0D) - 1.70158D * Math.pow(value, 2.0D);
-    public final Easing BACK_OUT = (value) -> 1.0D + 2.70158D * Math.pow(value - 1.0D, 3.0D) + 1.70158D * Math.pow(value - 1.0D, 2.0D);
-    public final Easing BACK_IN_OUT = (value) -> value < 0.5D ? Math.pow(2.0D * value, 2.0D) * (7.189819D * value - 2.5949095D) / 2.0D : (Math.pow(2.0D * value - 2.0D, 2.0D) * (3.5949095D * (value * 2.0D - 2.0D) + 2.5949095D) + 2.0D) / 2.0D;
-    public final Easing BOUNCE_OUT = (x) -> {
+    });
+    public final EasingTable BACK_IN = EasingTable.bake((value) -> 2.70158D * Math.pow(value, 3.0D) - 1.70158D * Math.pow(value, 2.0D));
+    public final EasingTable BACK_OUT = EasingTable.bake((value) -> 1.0D + 2.70158D * Math.pow(value - 1.0D, 3.0D) + 1.70158D * Math.pow(value - 1.0D, 2.0D));
+    public final EasingTable BACK_IN_OUT = EasingTable.bake((value) -> value < 0.5D ? Math.pow(2.0D * value, 2.0D) * (7.189819D * value - 2.5949095D) / 2.0D : (Math.pow(2.0D * value - 2.0D, 2.0D) * (3.5949095D * (value * 2.0D - 2.0D) + 2.5949095D) + 2.0D) / 2.0D);
+    public final EasingTable BOUNCE_OUT = EasingTable.bake(Easings::bounceOut);
+    public final EasingTable BOUNCE_IN = EasingTable.bake((value) -> 1.0D - bounceOut(1.0D - value));
+    public final EasingTable BOUNCE_IN_OUT = EasingTable.bake((value) -> value < 0.5D ? (1.0D - bounceOut(1.0D - 2.0D * value)) / 2.0D : (1.0D + bounceOut(2.0D * value - 1.0D)) / 2.0D);
+
+    private double bounceOut(double x) {
         double n1 = 7.5625D;
         double d1 = 2.75D;
         if (x < 1.0D / d1) {
-            return n1 * Math.pow(x, 2.0D);
+            return n1 * x * x;
         } else if (x < 2.0D / d1) {
-            return n1 * Math.pow(x - 1.5D / d1, 2.0D) + 0.75D;
+            x -= 1.5D / d1;
+            return n1 * x * x + 0.75D;
+        } else if (x < 2.5D / d1) {
+            x -= 2.25D / d1;
+            return n1 * x * x + 0.9375D;
         } else {
-            return x < 2.5D / d1 ? n1 * Math.pow(x - 2.25D / d1, 2.0D) + 0.9375D : n1 * Math.pow(x - 2.625D / d1, 2.0D) + 0.984375D;
+            x -= 2.625D / d1;
+            return n1 * x * x + 0.984375D;
         }
-    };
-    public final Easing BOUNCE_IN = (value) -> 1.0D - BOUNCE_OUT.ease(1.0D - value);
-    public final Easing BOUNCE_IN_OUT = (value) -> value < 0.5D ? (1.0D - BOUNCE_OUT.ease(1.0D - 2.0D * value)) / 2.0D : (1.0D + BOUNCE_OUT.ease(2.0D * value - 1.0D)) / 2.0D;
+    }
 
 
     public Easing powIn(double n) {
         return (value) -> Math.pow(value, n);
     }
 
+    /**
+     * Целая степень через умножения, {@link Math#pow} на горячем пути не нужен
+     */
     public Easing powIn(int n) {
-        return powIn((double) n);
+        switch (n) {
+            case 2: return (value) -> value * value;
+            case 3: return (value) -> value * value * value;
+            case 4: return (value) -> {
+                double sq = value * value;
+                return sq * sq;
+            };
+            default: return (value) -> ipow(value, n);
+        }
     }
 
     public Easing powOut(double n) {
@@ -80,7 +102,18 @@ public final class Easings {
     }
 
     public Easing powOut(int n) {
-        return powOut((double) n);
+        Easing in = powIn(n);
+        return (value) -> 1.0D - in.ease(1.0D - value);
+    }
+
+    private double ipow(double base, int exponent) {
+        double result = 1.0D;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) result *= base;
+            base *= base;
+            exponent >>= 1;
+        }
+        return result;
     }
 
     public Easing powIN_OUT(double n) {
@@ -11,7 +11,14 @@ import static wtf.taksa.usual.utils.minecraft.ContextWrapper.mc;
  */
 public class ChatUtil {
 
+    /**
+     * Можно звать с любого потока: вне клиентского сообщение передаётся на него через {@code mc.execute}
+     */
     public static void sendMessage(String message) {
+        if (!mc.isOnThread()) {
+            mc.execute(() -> sendMessage(message));
+            return;
+        }
         if (mc.inGameHud != null && mc.inGameHud.getChatHud() != null) {
             mc.inGameHud.getChatHud().addMessage(Text.literal(message));
         }
@@ -1,5 +1,6 @@
 package wtf.taksa.usual.utils.minecraft;
 
+import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.util.InputUtil;
 import org.lwjgl.glfw.GLFW;
 
@@ -136,4 +137,38 @@ public class KeyUtils {
     public static int getMouseButtonCode(int button) {
         return -100 - button;
     }
+
+    /**
+     * @return название бинда вместе с модификаторами, например {@code CTRL+F}
+     */
+    public static String getBindName(int keyCode, int modifiers) {
+        if (keyCode == GLFW.GLFW_KEY_UNKNOWN || modifiers == 0) return getKeyName(keyCode);
+        StringBuilder name = new StringBuilder();
+        if ((modifiers & GLFW.GLFW_MOD_CONTROL) != 0) name.append("CTRL+");
+        if ((modifiers & GLFW.GLFW_MOD_SHIFT) != 0) name.append("SHIFT+");
+        if ((modifiers & GLFW.GLFW_MOD_ALT) != 0) name.append("ALT+");
+        if ((modifiers & GLFW.GLFW_MOD_SUPER) != 0) name.append("SUPER+");
+        return name.append(getKeyName(keyCode)).toString();
+    }
+
+    /**
+     * @return модификаторы GLFW, зажатые прямо сейчас; для событий, которые не передают их сами (скролл)
+     */
+    public static int getModifiers() {
+        int modifiers = 0;
+        if (Screen.hasControlDown()) modifiers |= GLFW.GLFW_MOD_CONTROL;
+        if (Screen.hasShiftDown()) modifiers |= GLFW.GLFW_MOD_SHIFT;
+        if (Screen.hasAltDown()) modifiers |= GLFW.GLFW_MOD_ALT;
+        return modifiers;
+    }
+
+    public static boolean isModifierKey(int keyCode) {
+        return switch (keyCode) {
+            case GLFW.GLFW_KEY_LEFT_SHIFT, GLFW.GLFW_KEY_RIGHT_SHIFT,
+                 GLFW.GLFW_KEY_LEFT_CONTROL, GLFW.GLFW_KEY_RIGHT_CONTROL,
+                 GLFW.GLFW_KEY_LEFT_ALT, GLFW.GLFW_KEY_RIGHT_ALT,
+                 GLFW.GLFW_KEY_LEFT_SUPER, GLFW.GLFW_KEY_RIGHT_SUPER -> true;
+            default -> false;
+        };
+    }
 }
\ No newline at end of file
@@ -3,9 +3,8 @@ package wtf.taksa.usual.utils.render;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.math.MathHelper;
 import org.joml.Matrix4f;
-import org.joml.Vector4f;
 
-import java.util.Stack;
+import java.util.Arrays;
 /**
  * @author Kenny1337
  * @since 28.06.2025
@@ -15,7 +14,11 @@ import java.util.Stack;
  * A class used for defining clipping rectangles
  */
 public class ClipStack {
-    static final Stack<Rectangle> clipStack = new Stack<>();
+    /**
+     * Clip rectangles as packed {@code x0, y0, x1, y1} quads, already transformed and intersected with their parent
+     */
+    private static double[] clipStack = new double[4 * 16];
+    private static int depth;
 
     /**
      * <p>Adds a clipping window to the stack</p>
@@ -26,32 +29,52 @@ public class ClipStack {
      * @param rect  The new clipping rectangle to enlist
      */
     public static void addWindow(MatrixStack stack, Rectangle rect) {
+        addWindow(stack, rect.getX(), rect.getY(), rect.getX1(), rect.getY1());
+    }
+
+    /**
+     * Allocation-free variant of {@link #addWindow(MatrixStack, Rectangle)}
+     *
+     * @param stack The context MatrixStack
+     * @param x0    Left edge
+     * @param y0    Top edge
+     * @param x1    Right edge
+     * @param y1    Bottom edge
+     */
+    public static void addWindow(MatrixStack stack, double x0, double y0, double x1, double y1) {
         Matrix4f matrix = stack.peek().getPositionMatrix();
-        Vector4f start = new Vector4f((float) rect.getX(), (float) rect.getY(), 0, 1);
-        Vector4f end = new Vector4f((float) rect.getX1(), (float) rect.getY1(), 0, 1);
-        start.mul(matrix);
-        end.mul(matrix);
-        double x0 = start.x();
-        double y0 = start.y();
-        double x1 = end.x();
-        double y1 = end.y();
-        Rectangle transformed = new Rectangle(x0, y0, x1, y1);
-        if (clipStack.empty()) {
-            clipStack.push(transformed);
-            Renderer2d.beginScissor(transformed.getX(), transformed.getY(), transformed.getX1(), transformed.getY1());
-        } else {
-            Rectangle lastClip = clipStack.peek();
-            double lx0 = lastClip.getX();
-            double ly0 = lastClip.getY();
-            double lx1 = lastClip.getX1();
-            double ly1 = lastClip.getY1();
-            double nx0 = MathHelper.clamp(transformed.getX(), lx0, lx1);
-            double ny0 = MathHelper.clamp(transformed.getY(), ly0, ly1);
-            double nx1 = MathHelper.clamp(transformed.getX1(), nx0, lx1);
-            double ny1 = MathHelper.clamp(transformed.getY1(), ny0, ly1);
-            clipStack.push(new Rectangle(nx0, ny0, nx1, ny1));
-            Renderer2d.beginScissor(nx0, ny0, nx1, ny1);
+        // same as Vector4f(x, y, 0, 1).mul(matrix), without the vectors
+        double sx = matrix.m00() * x0 + matrix.m10() * y0 + matrix.m30();
+        double sy = matrix.m01() * x0 + matrix.m11() * y0 + matrix.m31();
+        double ex = matrix.m00() * x1 + matrix.m10() * y1 + matrix.m30();
+        double ey = matrix.m01() * x1 + matrix.m11() * y1 + matrix.m31();
+        double nx0 = Math.min(sx, ex);
+        double ny0 = Math.min(sy, ey);
+        double nx1 = Math.max(sx, ex);
+        double ny1 = Math.max(sy, ey);
+
+        if (depth > 0) {
+            int last = (depth - 1) * 4;
+            double lx0 = clipStack[last];
+            double ly0 = clipStack[last + 1];
+            double lx1 = clipStack[last + 2];
+            double ly1 = clipStack[last + 3];
+            nx0 = MathHelper.clamp(nx0, lx0, lx1);
+            ny0 = MathHelper.clamp(ny0, ly0, ly1);
+            nx1 = MathHelper.clamp(nx1, nx0, lx1);
+            ny1 = MathHelper.clamp(ny1, ny0, ly1);
         }
+
+        if ((depth + 1) * 4 > clipStack.length) {
+            clipStack = Arrays.copyOf(clipStack, clipStack.length * 2);
+        }
+        int top = depth * 4;
+        clipStack[top] = nx0;
+        clipStack[top + 1] = ny0;
+        clipStack[top + 2] = nx1;
+        clipStack[top + 3] = ny1;
+        depth++;
+        Renderer2d.beginScissor(nx0, ny0, nx1, ny1);
     }
 
     /**
@@ -73,29 +96,42 @@ public class ClipStack {
      * <p>Pops the latest added window from the stack</p>
      */
     public static void popWindow() {
-        clipStack.pop();
-        if (clipStack.empty()) {
+        if (depth == 0) {
+            throw new IllegalStateException("popWindow() without a matching addWindow()");
+        }
+        depth--;
+        if (depth == 0) {
             Renderer2d.endScissor();
         } else {
-            Rectangle r = clipStack.peek();
-            Renderer2d.beginScissor(r.getX(), r.getY(), r.getX1(), r.getY1());
+            applyTop();
         }
     }
 
+    /**
+     * @return The amount of windows currently on the stack
+     */
+    public static int getDepth() {
+        return depth;
+    }
+
     /**
      * <p>Renders something outside of the currently applied clipping rectangle stack</p>
      *
      * @param e The runnable to run outside the clip stack
      */
     public static void renderOutsideClipStack(Runnable e) {
-        if (clipStack.empty()) {
+        if (depth == 0) {
             e.run();
         } else {
             Renderer2d.endScissor();
             e.run();
-            Rectangle r = clipStack.peek();
-            Renderer2d.beginScissor(r.getX(), r.getY(), r.getX1(), r.getY1());
+            applyTop();
         }
     }
 
+    private static void applyTop() {
+        int top = (depth - 1) * 4;
+        Renderer2d.beginScissor(clipStack[top], clipStack[top + 1], clipStack[top + 2], clipStack[top + 3]);
+    }
+
 }
@@ -0,0 +1,87 @@
+package wtf.taksa.usual.utils.render;
+
+import net.minecraft.client.util.math.MatrixStack;
+
+/**
+ * <p>Collects the screen regions that changed since the last frame</p>
+ * <p>Regions are stored as packed primitive rectangles and replayed through {@link ClipStack}, so a partial redraw
+ * only touches the pixels inside them. Too many regions collapse into a full redraw.</p>
+ */
+public class DirtyRegionTracker {
+    /**
+     * Past this many regions, scissoring every one of them costs more than just redrawing everything
+     */
+    private static final int MAX_REGIONS = 8;
+
+    private final double[] regions = new double[MAX_REGIONS * 4];
+    private int count;
+    private boolean full = true;
+
+    /**
+     * Marks a rectangle as changed
+     *
+     * @param x      The X coordinate
+     * @param y      The Y coordinate
+     * @param width  The width of the region
+     * @param height The height of the region
+     */
+    public void markDirty(double x, double y, double width, double height) {
+        if (full || width <= 0 || height <= 0) return;
+        double x1 = x + width;
+        double y1 = y + height;
+        for (int i = 0; i < count; i++) {
+            int o = i * 4;
+            // already covered by an existing region
+            if (x >= regions[o] && y >= regions[o + 1] && x1 <= regions[o + 2] && y1 <= regions[o + 3]) return;
+        }
+        if (count == MAX_REGIONS) {
+            markAllDirty();
+            return;
+        }
+        int o = count * 4;
+        regions[o] = x;
+        regions[o + 1] = y;
+        regions[o + 2] = x1;
+        regions[o + 3] = y1;
+        count++;
+    }
+
+    /**
+     * Requests a full redraw on the next frame
+     */
+    public void markAllDirty() {
+        full = true;
+        count = 0;
+    }
+
+    public boolean isFullRedraw() {
+        return full;
+    }
+
+    public boolean isClean() {
+        return !full && count == 0;
+    }
+
+    /**
+     * Runs {@code drawAction} once per dirty region, clipped to that region. Does nothing on a full redraw.
+     *
+     * @param stack      The context MatrixStack
+     * @param drawAction The method that renders the whole scene
+     */
+    public void redrawRegions(MatrixStack stack, Runnable drawAction) {
+        for (int i = 0; i < count; i++) {
+            int o = i * 4;
+            ClipStack.addWindow(stack, regions[o], regions[o + 1], regions[o + 2], regions[o + 3]);
+            drawAction.run();
+            ClipStack.popWindow();
+        }
+    }
+
+    /**
+     * Forgets all regions, call after the frame has been redrawn
+     */
+    public void clear() {
+        full = false;
+        count = 0;
+    }
+}